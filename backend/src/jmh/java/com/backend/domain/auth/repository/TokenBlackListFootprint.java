@@ -0,0 +1,87 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.token.TokenManager;
+import com.backend.domain.auth.token.TokenProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 Redis에 이전 형식(black:&lt;token&gt;)과 현재 형식(rv:&lt;digest&gt;)의 blacklist를 각각 기록하고
+ * 키 하나당 사용하는 메모리를 비교한다. 측정 전후로 15번 데이터베이스를 비우므로 운영 Redis에서 실행하지 않는다.
+ * <p>
+ * 실행: {@code ./gradlew jmhClasses} 후 jmh 클래스패스로 실행하며, 인자로 Redis 호스트, 포트, 키 개수를 받는다.
+ */
+public class TokenBlackListFootprint {
+
+    private static final String SECRET_KEY = "footprint-secret-key-footprint-secret-key-footprint";
+    private static final int FOOTPRINT_DATABASE = 15;
+    private static final long EXPIRE = TimeUnit.HOURS.toMillis(1);
+
+    public static void main(String[] args) {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 6379;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 100000;
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(FOOTPRINT_DATABASE);
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+        TokenRepository tokenRepository = new TokenRepository(stringRedisTemplate);
+        TokenManager tokenManager = new TokenManager(
+                new TokenProperties(SECRET_KEY, EXPIRE, EXPIRE, 1), new SimpleMeterRegistry());
+
+        List<String> accessTokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            accessTokens.add(tokenManager.createAccessToken((long) i, "member" + i, "nickname" + i, "ROLE_MEMBER", "device" + i, 0L));
+        }
+
+        try {
+            stringRedisTemplate.execute(connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            }, true);
+
+            long baseline = usedMemory(stringRedisTemplate);
+            for (String accessToken : accessTokens) {
+                stringRedisTemplate.opsForValue().set("black:" + accessToken, "blocked", EXPIRE, TimeUnit.MILLISECONDS);
+            }
+            long legacy = usedMemory(stringRedisTemplate) - baseline;
+            stringRedisTemplate.execute(connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            }, true);
+
+            baseline = usedMemory(stringRedisTemplate);
+            for (String accessToken : accessTokens) {
+                tokenRepository.addBlackList(tokenManager.validateToken(accessToken).getId(), EXPIRE);
+            }
+            long digest = usedMemory(stringRedisTemplate) - baseline;
+
+            System.out.printf("keys=%d, legacy=%d bytes/key, digest=%d bytes/key%n",
+                    count, legacy / count, digest / count);
+        } finally {
+            stringRedisTemplate.execute(connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            }, true);
+            connectionFactory.destroy();
+        }
+    }
+
+    private static long usedMemory(StringRedisTemplate stringRedisTemplate) {
+        Properties info = stringRedisTemplate.execute(connection -> connection.serverCommands().info("memory"), true);
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.backend.domain.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenManagerBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark";
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private TokenManager tokenManager;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        tokenManager = new TokenManager(new TokenProperties(SECRET_KEY, 1800000, 86400000, 10000), new SimpleMeterRegistry());
+        accessToken = tokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+    }
+
+    @Benchmark
+    public Object doubleParse() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken);
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+        return claims.get("authority");
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return jwtParser.parseSignedClaims(accessToken).getPayload().get("authority");
+    }
+
+    @Benchmark
+    public Object cachedParse() {
+        return tokenManager.validateToken(accessToken).get("authority");
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.backend.global.security.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestPathBenchmark {
+
+    @Param({"GET /api/posts", "GET /api/posts/1/comments", "DELETE /api/posts/1/comments/2", "GET /api/unknown"})
+    private String route;
+
+    private RequestMatcher[] antMatchers;
+    private RequestPath.Authority[] authorities;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        RequestPath[] requestPaths = RequestPath.values();
+        antMatchers = Arrays.stream(requestPaths)
+                .map(requestPath -> antMatcher(requestPath.getHttpMethod(), requestPath.getPattern()))
+                .toArray(RequestMatcher[]::new);
+        authorities = Arrays.stream(requestPaths)
+                .map(RequestPath::getAuthority)
+                .toArray(RequestPath.Authority[]::new);
+        String[] methodAndPath = route.split(" ");
+        request = new MockHttpServletRequest(methodAndPath[0], methodAndPath[1]);
+        request.setServletPath(methodAndPath[1]);
+    }
+
+    @Benchmark
+    public boolean antPathMatchers() {
+        for (int i = 0; i < antMatchers.length; i++) {
+            if (authorities[i] == RequestPath.Authority.PERMIT_ALL && antMatchers[i].matches(request)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean routeTrie() {
+        return RequestPath.isShouldNotFilter(request);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.backend.domain.admin.controller;
+
+import com.backend.domain.admin.dto.PostImportResponse;
+import com.backend.domain.admin.service.PostImportService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final PostImportService postImportService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportResponse> postImport(InputStream inputStream,
+                                                         @RequestParam(value = "skip", defaultValue = "0") long skip) {
+        PostImportResponse postImportResponse = postImportService.postImport(inputStream, skip);
+        return ResponseEntity.ok().body(postImportResponse);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.backend.domain.admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentImportRequest {
+
+    @NotBlank
+    private String username;
+
+    @NotBlank
+    private String content;
+
+}
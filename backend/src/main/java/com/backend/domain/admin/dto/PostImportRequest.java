@@ -0,0 +1,31 @@
+package com.backend.domain.admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportRequest {
+
+    @NotBlank
+    private String username;
+
+    @NotBlank
+    private String title;
+
+    @NotBlank
+    private String content;
+
+    private List<CommentImportRequest> comments;
+
+    public List<CommentImportRequest> getComments() {
+        return comments == null ? List.of() : comments;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.backend.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostImportResponse {
+
+    private long importedPosts;
+    private long importedComments;
+    private long skippedPosts;
+    private long skippedComments;
+    private long committedRecords;
+
+}
@@ -0,0 +1,19 @@
+package com.backend.domain.admin.exception;
+
+import com.backend.domain.admin.dto.PostImportResponse;
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.InvalidInputException;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidImportDataException extends InvalidInputException {
+
+    private final PostImportResponse progress;
+
+    public InvalidImportDataException(PostImportResponse progress) {
+        super(ErrorType.INVALID_IMPORT_DATA);
+        this.progress = progress;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.admin.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.post-import")
+@Getter
+public class PostImportProperties {
+
+    private final int chunkSize;
+    private final int flushSize;
+    private final int memberCacheSize;
+
+    public PostImportProperties(@DefaultValue("1000") int chunkSize,
+                                @DefaultValue("50") int flushSize,
+                                @DefaultValue("10000") int memberCacheSize) {
+        this.chunkSize = chunkSize;
+        this.flushSize = flushSize;
+        this.memberCacheSize = memberCacheSize;
+    }
+
+}
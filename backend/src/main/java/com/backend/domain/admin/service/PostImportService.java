@@ -0,0 +1,186 @@
+package com.backend.domain.admin.service;
+
+import com.backend.domain.admin.dto.CommentImportRequest;
+import com.backend.domain.admin.dto.PostImportRequest;
+import com.backend.domain.admin.dto.PostImportResponse;
+import com.backend.domain.admin.exception.InvalidImportDataException;
+import com.backend.domain.comment.entity.Comment;
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.repository.PostRepository;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostImportProperties properties;
+
+    public PostImportResponse postImport(InputStream inputStream) {
+        return postImport(inputStream, 0);
+    }
+
+    /**
+     * 앞의 {@code skip}개 레코드는 읽기만 하고 저장하지 않는다.
+     * 가져오기가 중간에 실패하면 예외에 담긴 {@code committedRecords}를 그대로 넘겨 이어서 가져올 수 있다.
+     */
+    public PostImportResponse postImport(InputStream inputStream, long skip) {
+        Cache<String, Optional<Member>> members = Caffeine.newBuilder()
+                .maximumSize(properties.getMemberCacheSize())
+                .build();
+        ImportCount importCount = new ImportCount(skip);
+        List<PostImportRequest> chunk = new ArrayList<>();
+        int chunkRows = 0;
+        long readRecords = 0;
+        try (MappingIterator<PostImportRequest> iterator = objectMapper.readerFor(PostImportRequest.class).readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                PostImportRequest postImportRequest = iterator.nextValue();
+                if (++readRecords <= skip) {
+                    continue;
+                }
+                chunk.add(postImportRequest);
+                chunkRows += 1 + postImportRequest.getComments().size();
+                if (chunkRows >= properties.getChunkSize()) {
+                    persist(chunk, members, importCount);
+                    chunk.clear();
+                    chunkRows = 0;
+                }
+            }
+        } catch (IOException e) {
+            if (!chunk.isEmpty()) {
+                persist(chunk, members, importCount);
+            }
+            log.warn("가져오기 데이터 형식이 잘못 되었습니다. 레코드 {}건까지 저장되었습니다.", importCount.committedRecords);
+            throw new InvalidImportDataException(importCount.toResponse());
+        }
+        if (!chunk.isEmpty()) {
+            persist(chunk, members, importCount);
+        }
+        log.info("게시글 {}건, 댓글 {}건을 가져왔습니다.", importCount.importedPosts, importCount.importedComments);
+        return importCount.toResponse();
+    }
+
+    private void persist(List<PostImportRequest> chunk, Cache<String, Optional<Member>> members, ImportCount importCount) {
+        ImportCount chunkCount = new ImportCount(importCount.committedRecords + chunk.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> postIds = new ArrayList<>();
+            int persisted = 0;
+            for (PostImportRequest postImportRequest : chunk) {
+                Optional<Member> postMember = findWriter(postImportRequest, postImportRequest.getUsername(), members);
+                if (postMember.isEmpty()) {
+                    chunkCount.skippedPosts++;
+                    chunkCount.skippedComments += postImportRequest.getComments().size();
+                    continue;
+                }
+                Post post = postRepository.save(Post.builder()
+                        .title(postImportRequest.getTitle())
+                        .writer(postMember.get().getNickname())
+                        .content(postImportRequest.getContent())
+                        .member(postMember.get())
+                        .build());
+                postIds.add(post.getId());
+                chunkCount.importedPosts++;
+                persisted = flushIfFull(persisted + 1);
+                for (CommentImportRequest commentImportRequest : postImportRequest.getComments()) {
+                    Optional<Member> commentMember = findWriter(commentImportRequest, commentImportRequest.getUsername(), members);
+                    if (commentMember.isEmpty()) {
+                        chunkCount.skippedComments++;
+                        continue;
+                    }
+                    commentRepository.save(Comment.builder()
+                            .writer(commentMember.get().getNickname())
+                            .content(commentImportRequest.getContent())
+                            .member(commentMember.get())
+                            .post(post)
+                            .build());
+                    chunkCount.importedComments++;
+                    persisted = flushIfFull(persisted + 1);
+                }
+            }
+            entityManager.flush();
+            if (!postIds.isEmpty()) {
+                postRepository.repairCommentCount(Collections.min(postIds) - 1, Collections.max(postIds));
+                eventPublisher.publishEvent(new PostImportEvent(postIds));
+            }
+            entityManager.clear();
+        });
+        importCount.add(chunkCount);
+    }
+
+    private Optional<Member> findWriter(Object importRequest, String username, Cache<String, Optional<Member>> members) {
+        if (!validator.validate(importRequest).isEmpty()) {
+            return Optional.empty();
+        }
+        return members.get(username, memberRepository::findByUsername);
+    }
+
+    private int flushIfFull(int persisted) {
+        if (persisted < properties.getFlushSize()) {
+            return persisted;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return 0;
+    }
+
+    private static class ImportCount {
+
+        private long importedPosts;
+        private long importedComments;
+        private long skippedPosts;
+        private long skippedComments;
+        private long committedRecords;
+
+        private ImportCount(long committedRecords) {
+            this.committedRecords = committedRecords;
+        }
+
+        private void add(ImportCount chunkCount) {
+            importedPosts += chunkCount.importedPosts;
+            importedComments += chunkCount.importedComments;
+            skippedPosts += chunkCount.skippedPosts;
+            skippedComments += chunkCount.skippedComments;
+            committedRecords = chunkCount.committedRecords;
+        }
+
+        private PostImportResponse toResponse() {
+            return new PostImportResponse(importedPosts, importedComments, skippedPosts, skippedComments, committedRecords);
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.backend.domain.auth.bloom;
+
+import com.backend.domain.auth.repository.TokenRepository;
+import com.backend.domain.auth.token.TokenDigest;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+public class RevokedTokenFilter {
+
+    private static final ChannelTopic REVOKED_TOPIC = new ChannelTopic("auth:bloom:revoked");
+
+    private final TokenRepository tokenRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final int scanCount;
+    private volatile BloomFilter<byte[]> revoked;
+    private volatile BloomFilter<byte[]> rebuilding;
+
+    public RevokedTokenFilter(RevokedTokenFilterProperties properties,
+                              TokenRepository tokenRepository,
+                              StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.tokenRepository = tokenRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = properties.getExpectedInsertions();
+        this.falsePositiveProbability = properties.getFalsePositiveProbability();
+        this.scanCount = properties.getScanCount();
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                put(TokenDigest.digest(new String(message.getBody(), StandardCharsets.UTF_8))), REVOKED_TOPIC);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.revoked-token-filter.rebuild-interval:600000}",
+            initialDelayString = "${board.revoked-token-filter.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        BloomFilter<byte[]> filter = create();
+        rebuilding = filter;
+        try {
+            long count = tokenRepository.scanBlackList(scanCount, filter::put);
+            revoked = filter;
+            log.info("폐기된 토큰 {}개로 블룸 필터를 구성했습니다.", count);
+        } catch (DataAccessException e) {
+            log.warn("폐기 토큰 블룸 필터 구성에 실패했습니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public boolean mightContain(String tokenId) {
+        BloomFilter<byte[]> filter = revoked;
+        return filter == null || filter.mightContain(TokenDigest.digest(tokenId));
+    }
+
+    public void add(String tokenId) {
+        put(TokenDigest.digest(tokenId));
+        try {
+            stringRedisTemplate.convertAndSend(REVOKED_TOPIC.getTopic(), tokenId);
+        } catch (DataAccessException e) {
+            log.warn("폐기 토큰 블룸 필터 갱신 메시지 발행에 실패했습니다.", e);
+        }
+    }
+
+    private void put(byte[] digest) {
+        BloomFilter<byte[]> filter = revoked;
+        if (filter != null) {
+            filter.put(digest);
+        }
+        BloomFilter<byte[]> next = rebuilding;
+        if (next != null) {
+            next.put(digest);
+        }
+    }
+
+    private BloomFilter<byte[]> create() {
+        return BloomFilter.create(Funnels.byteArrayFunnel(), expectedInsertions, falsePositiveProbability);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.auth.bloom;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.revoked-token-filter")
+@Getter
+public class RevokedTokenFilterProperties {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final int scanCount;
+
+    public RevokedTokenFilterProperties(@DefaultValue("100000") long expectedInsertions,
+                                        @DefaultValue("0.001") double falsePositiveProbability,
+                                        @DefaultValue("1000") int scanCount) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.scanCount = scanCount;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.backend.domain.auth.cache;
+
+import com.backend.domain.auth.repository.TokenEpochRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+public class TokenEpochCache {
+
+    private static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("auth:epoch:invalidation");
+
+    private final Cache<Long, Long> localCache;
+    private final TokenEpochRepository tokenEpochRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public TokenEpochCache(TokenEpochCacheProperties properties,
+                           TokenEpochRepository tokenEpochRepository,
+                           StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           MeterRegistry meterRegistry) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.tokenEpochRepository = tokenEpochRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "tokenEpoch");
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))), INVALIDATION_TOPIC);
+    }
+
+    public long get(Long memberId) {
+        return localCache.get(memberId, tokenEpochRepository::find);
+    }
+
+    public long bump(Long memberId, long expire) {
+        long epoch = tokenEpochRepository.bump(memberId, expire);
+        localCache.put(memberId, epoch);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), String.valueOf(memberId));
+        } catch (DataAccessException e) {
+            log.warn("회원 {} 토큰 epoch 무효화 메시지 발행에 실패했습니다.", memberId, e);
+        }
+        return epoch;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.backend.domain.auth.cache;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.token-epoch-cache")
+@Getter
+public class TokenEpochCacheProperties {
+
+    private final long maximumSize;
+    private final Duration localTtl;
+
+    public TokenEpochCacheProperties(@DefaultValue("100000") long maximumSize,
+                                     @DefaultValue("1s") Duration localTtl) {
+        this.maximumSize = maximumSize;
+        this.localTtl = localTtl;
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.backend.domain.auth.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.auth.dto.LoginRequest;
+import com.backend.domain.auth.dto.RefreshRequest;
+import com.backend.domain.auth.dto.SessionListResponse;
 import com.backend.domain.auth.dto.TokenResponse;
 import com.backend.domain.auth.service.AuthService;
 
@@ -9,12 +12,17 @@ import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,16 +35,46 @@ public class AuthController {
 
     @PreAuthorize("permitAll()")
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> memberLogin(@RequestBody @Valid LoginRequest loginRequest) {
-        TokenResponse tokenResponse = authService.memberLogin(loginRequest);
+    public ResponseEntity<TokenResponse> memberLogin(@RequestBody @Valid LoginRequest loginRequest,
+                                                     @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent) {
+        TokenResponse tokenResponse = authService.memberLogin(loginRequest, userAgent);
+        return ResponseEntity.ok().body(tokenResponse);
+    }
+
+    @PreAuthorize("permitAll()")
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> tokenRefresh(@RequestBody @Valid RefreshRequest refreshRequest) {
+        TokenResponse tokenResponse = authService.tokenRefresh(refreshRequest.getRefreshToken());
         return ResponseEntity.ok().body(tokenResponse);
     }
 
     @PreAuthorize("hasRole('MEMBER')")
     @PostMapping("/logout")
-    public ResponseEntity<Void> memberLogout(HttpServletRequest request, @AuthenticationPrincipal String username) {
+    public ResponseEntity<Void> memberLogout(HttpServletRequest request, @AuthenticationPrincipal LoginMember loginMember) {
         String accessToken = extractToken(request);
-        authService.memberLogout(accessToken, username);
+        authService.memberLogout(accessToken, loginMember);
+        return ResponseEntity.ok().build();
+    }
+
+    @PreAuthorize("hasRole('MEMBER')")
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> memberLogoutAll(@AuthenticationPrincipal LoginMember loginMember) {
+        authService.memberLogoutAll(loginMember.getMemberId());
+        return ResponseEntity.ok().build();
+    }
+
+    @PreAuthorize("hasRole('MEMBER')")
+    @GetMapping("/sessions")
+    public ResponseEntity<SessionListResponse> memberSessions(@AuthenticationPrincipal LoginMember loginMember) {
+        SessionListResponse sessionListResponse = authService.memberSessions(loginMember);
+        return ResponseEntity.ok().body(sessionListResponse);
+    }
+
+    @PreAuthorize("hasRole('MEMBER')")
+    @DeleteMapping("/sessions/{deviceId}")
+    public ResponseEntity<Void> memberSessionDelete(@PathVariable("deviceId") String deviceId,
+                                                    @AuthenticationPrincipal LoginMember loginMember) {
+        authService.memberSessionDelete(loginMember.getMemberId(), deviceId);
         return ResponseEntity.ok().build();
     }
 
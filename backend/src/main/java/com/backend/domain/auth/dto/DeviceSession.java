@@ -0,0 +1,18 @@
+package com.backend.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceSession {
+
+    private String deviceId;
+    private String device;
+    private String refreshTokenId;
+    private long issuedAt;
+    private long expiresAt;
+
+}
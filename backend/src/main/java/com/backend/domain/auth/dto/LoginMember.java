@@ -0,0 +1,15 @@
+package com.backend.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LoginMember {
+
+    private final Long memberId;
+    private final String username;
+    private final String nickname;
+    private final String deviceId;
+
+}
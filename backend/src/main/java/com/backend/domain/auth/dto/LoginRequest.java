@@ -11,5 +11,10 @@ public class LoginRequest {
 
     private String username;
     private String password;
+    private String deviceId;
+
+    public LoginRequest(String username, String password) {
+        this(username, password, null);
+    }
 
 }
@@ -0,0 +1,17 @@
+package com.backend.domain.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshRequest {
+
+    @NotBlank(message = "refresh token을 입력해 주세요.")
+    private String refreshToken;
+
+}
@@ -0,0 +1,30 @@
+package com.backend.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionItem {
+
+    private String deviceId;
+    private String device;
+    private LocalDateTime loggedInAt;
+    private LocalDateTime expiresAt;
+    private boolean current;
+
+    public SessionItem(DeviceSession deviceSession, String currentDeviceId) {
+        this.deviceId = deviceSession.getDeviceId();
+        this.device = deviceSession.getDevice();
+        this.loggedInAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(deviceSession.getIssuedAt()), ZoneId.systemDefault());
+        this.expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(deviceSession.getExpiresAt()), ZoneId.systemDefault());
+        this.current = deviceSession.getDeviceId().equals(currentDeviceId);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.backend.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionListResponse {
+
+    private List<SessionItem> sessions;
+
+}
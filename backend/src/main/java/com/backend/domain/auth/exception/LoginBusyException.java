@@ -0,0 +1,12 @@
+package com.backend.domain.auth.exception;
+
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.ServiceUnavailableException;
+
+public class LoginBusyException extends ServiceUnavailableException {
+
+    public LoginBusyException(long retryAfterSeconds) {
+        super(ErrorType.LOGIN_BUSY, retryAfterSeconds);
+    }
+
+}
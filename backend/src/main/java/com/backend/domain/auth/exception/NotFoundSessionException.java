@@ -0,0 +1,12 @@
+package com.backend.domain.auth.exception;
+
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.NotFoundException;
+
+public class NotFoundSessionException extends NotFoundException {
+
+    public NotFoundSessionException() {
+        super(ErrorType.NOT_FOUND_SESSION);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.backend.domain.auth.exception;
+
+import com.backend.global.error.exception.ErrorType;
+
+import org.springframework.security.core.AuthenticationException;
+
+public class ReusedRefreshTokenException extends AuthenticationException {
+
+    public ReusedRefreshTokenException() {
+        super(ErrorType.REUSED_REFRESH_TOKEN.getErrorCode());
+    }
+
+}
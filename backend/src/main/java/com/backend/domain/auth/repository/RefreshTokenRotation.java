@@ -0,0 +1,14 @@
+package com.backend.domain.auth.repository;
+
+public enum RefreshTokenRotation {
+
+    NOT_FOUND, ROTATED, REUSED;
+
+    static RefreshTokenRotation of(Long result) {
+        if (result == null || result < 0 || result >= values().length) {
+            return NOT_FOUND;
+        }
+        return values()[result.intValue()];
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.auth.repository;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.session")
+@Getter
+public class SessionProperties {
+
+    private final int maxDevices;
+
+    public SessionProperties(@DefaultValue("10") int maxDevices) {
+        this.maxDevices = maxDevices;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.dto.DeviceSession;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SessionRepository {
+
+    private static final String KEY_PREFIX = "session:";
+    private static final String EXPIRY_KEY_SUFFIX = ":expiry";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+            if #expired > 0 then
+                redis.call('HDEL', KEYS[1], unpack(expired))
+                redis.call('ZREM', KEYS[2], unpack(expired))
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[5], ARGV[1])
+            local evicted = {}
+            local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6])
+            if overflow > 0 then
+                evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+                redis.call('HDEL', KEYS[1], unpack(evicted))
+                redis.call('ZREM', KEYS[2], unpack(evicted))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return evicted
+            """, List.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local session = cjson.decode(value)
+            if session['refreshTokenId'] ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return 2
+            end
+            session['refreshTokenId'] = ARGV[3]
+            session['expiresAt'] = tonumber(ARGV[4])
+            redis.call('HSET', KEYS[1], ARGV[1], cjson.encode(session))
+            redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+    private static final RedisScript<String> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if value then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return value
+            """, String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SessionProperties properties;
+
+    /**
+     * 만료된 기기를 정리한 뒤 저장하고, 기기 수가 최대치를 넘으면 만료가 가장 가까운 기기부터 밀어낸다.
+     * 밀려난 기기 ID 목록을 응답한다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> save(Long memberId, DeviceSession deviceSession, long expire) {
+        List<String> evictedDeviceIds = stringRedisTemplate.execute(SAVE_SCRIPT, keys(memberId),
+                deviceSession.getDeviceId(), write(deviceSession), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(expire), String.valueOf(deviceSession.getExpiresAt()), String.valueOf(properties.getMaxDevices()));
+        return evictedDeviceIds == null ? List.of() : evictedDeviceIds;
+    }
+
+    public Optional<DeviceSession> find(Long memberId, String deviceId) {
+        String value = stringRedisTemplate.<String, String>opsForHash().get(KEY_PREFIX + memberId, deviceId);
+        return Optional.ofNullable(value)
+                .map(this::read)
+                .filter(deviceSession -> deviceSession.getExpiresAt() > System.currentTimeMillis());
+    }
+
+    public RefreshTokenRotation rotate(Long memberId, String deviceId, String refreshTokenId,
+                                       String newRefreshTokenId, long expiresAt, long expire) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, keys(memberId),
+                deviceId, refreshTokenId, newRefreshTokenId, String.valueOf(expiresAt), String.valueOf(expire));
+        return RefreshTokenRotation.of(result);
+    }
+
+    public List<DeviceSession> findAll(Long memberId) {
+        long now = System.currentTimeMillis();
+        return stringRedisTemplate.<String, String>opsForHash().values(KEY_PREFIX + memberId).stream()
+                .map(this::read)
+                .filter(deviceSession -> deviceSession.getExpiresAt() > now)
+                .sorted(Comparator.comparingLong(DeviceSession::getIssuedAt).reversed())
+                .toList();
+    }
+
+    public Optional<DeviceSession> delete(Long memberId, String deviceId) {
+        String value = stringRedisTemplate.execute(REMOVE_SCRIPT, keys(memberId), deviceId);
+        return Optional.ofNullable(value)
+                .map(this::read)
+                .filter(deviceSession -> deviceSession.getExpiresAt() > System.currentTimeMillis());
+    }
+
+    public void deleteAll(Long memberId) {
+        stringRedisTemplate.delete(keys(memberId));
+    }
+
+    private List<String> keys(Long memberId) {
+        return List.of(KEY_PREFIX + memberId, KEY_PREFIX + memberId + EXPIRY_KEY_SUFFIX);
+    }
+
+    private String write(DeviceSession deviceSession) {
+        try {
+            return objectMapper.writeValueAsString(deviceSession);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DeviceSession read(String value) {
+        try {
+            return objectMapper.readValue(value, DeviceSession.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.backend.domain.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TokenEpochRepository {
+
+    private static final String KEY_PREFIX = "epoch:";
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(ARGV[1])
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if epoch <= current then
+                epoch = current + 1
+            end
+            redis.call('SET', KEYS[1], epoch, 'PX', ARGV[2])
+            return epoch
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long find(Long memberId) {
+        String epoch = stringRedisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+        return epoch == null ? 0 : Long.parseLong(epoch);
+    }
+
+    public long bump(Long memberId, long expire) {
+        Long epoch = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + memberId),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(expire));
+        return epoch == null ? System.currentTimeMillis() : epoch;
+    }
+
+}
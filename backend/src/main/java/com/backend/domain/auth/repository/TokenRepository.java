@@ -1,40 +1,95 @@
 package com.backend.domain.auth.repository;
 
+import com.backend.domain.auth.token.TokenDigest;
+
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class TokenRepository {
 
-    private static final String BLACK_LIST_TOKEN_PREFIX = "black:";
-    private static final String BLOCKED = "blocked";
+    private static final byte[] BLACK_LIST_PREFIX = "rv:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BLOCKED = {'1'};
+    private static final String LEGACY_BLACK_LIST_PREFIX = "black:";
+    private static final String LEGACY_REFRESH_TOKEN_PREFIX = "refresh:";
 
     private final StringRedisTemplate stringRedisTemplate;
 
-    public void add(String key, String value, long expire) {
-        stringRedisTemplate.opsForValue().set(key, value, expire, TimeUnit.MILLISECONDS);
+    public void addBlackList(String tokenId, long expire) {
+        byte[] key = blackListKey(TokenDigest.digest(tokenId));
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(key, BLOCKED, Expiration.milliseconds(expire), RedisStringCommands.SetOption.upsert()));
+    }
+
+    public boolean isBlocked(String tokenId) {
+        byte[] key = blackListKey(TokenDigest.digest(tokenId));
+        return Boolean.TRUE.equals(stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.keyCommands().exists(key)));
+    }
+
+    public boolean isLegacyBlocked(String token) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LEGACY_BLACK_LIST_PREFIX + token));
     }
 
-    public void addBlackList(String token, long expire) {
-        stringRedisTemplate.opsForValue().set(BLACK_LIST_TOKEN_PREFIX + token, BLOCKED, expire, TimeUnit.MILLISECONDS);
+    public long scanBlackList(int count, Consumer<byte[]> consumer) {
+        long scanned = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match("rv:*")
+                    .count(count)
+                    .build();
+            long keys = 0;
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    byte[] key = cursor.next();
+                    consumer.accept(Arrays.copyOfRange(key, BLACK_LIST_PREFIX.length, key.length));
+                    keys++;
+                }
+            }
+            return keys;
+        });
+        ScanOptions legacyOptions = ScanOptions.scanOptions()
+                .match(LEGACY_BLACK_LIST_PREFIX + "*")
+                .count(count)
+                .build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(legacyOptions)) {
+            while (cursor.hasNext()) {
+                consumer.accept(TokenDigest.digest(cursor.next().substring(LEGACY_BLACK_LIST_PREFIX.length())));
+                scanned++;
+            }
+        }
+        return scanned;
     }
 
-    public boolean isBlocked(String token) {
-        return stringRedisTemplate.hasKey(BLACK_LIST_TOKEN_PREFIX + token);
+    public Optional<String> findLegacyRefreshToken(String username) {
+        Object refreshToken = stringRedisTemplate.opsForHash().get(LEGACY_REFRESH_TOKEN_PREFIX + username, "token");
+        if (refreshToken != null) {
+            return Optional.of((String) refreshToken);
+        }
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(username));
     }
 
-    public Optional<String> findByUsername(String username) {
-        return Optional.of(stringRedisTemplate.opsForValue().get(username));
+    public void deleteLegacyRefreshToken(String username) {
+        stringRedisTemplate.delete(List.of(LEGACY_REFRESH_TOKEN_PREFIX + username, username));
     }
 
-    public void deleteByUsername(String username) {
-        stringRedisTemplate.delete(username);
+    private byte[] blackListKey(byte[] digest) {
+        byte[] key = Arrays.copyOf(BLACK_LIST_PREFIX, BLACK_LIST_PREFIX.length + digest.length);
+        System.arraycopy(digest, 0, key, BLACK_LIST_PREFIX.length, digest.length);
+        return key;
     }
 
 }
@@ -1,37 +1,63 @@
 package com.backend.domain.auth.service;
 
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.auth.dto.LoginRequest;
+import com.backend.domain.auth.dto.SessionListResponse;
 import com.backend.domain.auth.dto.TokenResponse;
 import com.backend.domain.auth.exception.BadCredentialsException;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.global.ratelimit.RateLimitExceededException;
+import com.backend.global.ratelimit.RateLimiter;
+import com.backend.global.security.filter.RequestPath;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final PasswordRehashService passwordRehashService;
     private final TokenService tokenService;
+    private final RateLimiter rateLimiter;
 
-    @Transactional
-    public TokenResponse memberLogin(LoginRequest loginRequest) {
+    public TokenResponse memberLogin(LoginRequest loginRequest, String device) {
+        long retryAfterMillis = rateLimiter.tryAcquire(RequestPath.MEMBER_LOGIN, "user:" + loginRequest.getUsername());
+        if (retryAfterMillis > 0) {
+            throw new RateLimitExceededException(retryAfterMillis);
+        }
         Member member = memberRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(BadCredentialsException::new);
-        if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
+        if (!passwordVerifier.matches(loginRequest.getPassword(), member.getPassword())) {
             throw new BadCredentialsException();
         }
-        return tokenService.issueToken(member.getUsername(), member.getAuthority());
+        passwordRehashService.rehashIfNeeded(member, loginRequest.getPassword());
+        return tokenService.issueToken(member.getId(), member.getUsername(), member.getNickname(), member.getAuthority(), device,
+                loginRequest.getDeviceId());
+    }
+
+    public TokenResponse tokenRefresh(String refreshToken) {
+        return tokenService.refreshToken(refreshToken);
+    }
+
+    public void memberLogout(String accessToken, LoginMember loginMember) {
+        tokenService.deleteToken(accessToken, loginMember);
+    }
+
+    public void memberLogoutAll(Long memberId) {
+        tokenService.deleteAllTokens(memberId);
+    }
+
+    public SessionListResponse memberSessions(LoginMember loginMember) {
+        return new SessionListResponse(tokenService.findSessions(loginMember));
     }
 
-    public void memberLogout(String accessToken, String username) {
-        tokenService.deleteToken(accessToken, username);
+    public void memberSessionDelete(Long memberId, String deviceId) {
+        tokenService.deleteSession(memberId, deviceId);
     }
 
 }
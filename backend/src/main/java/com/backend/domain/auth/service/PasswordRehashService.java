@@ -0,0 +1,57 @@
+package com.backend.domain.auth.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class PasswordRehashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter rehashed;
+
+    public PasswordRehashService(PasswordEncoder passwordEncoder,
+                                 PasswordVerifier passwordVerifier,
+                                 MemberRepository memberRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rehashed = meterRegistry.counter("board.auth.password.rehashed");
+    }
+
+    public void rehashIfNeeded(Member member, String rawPassword) {
+        String oldPassword = member.getPassword();
+        if (!passwordEncoder.upgradeEncoding(oldPassword)) {
+            return;
+        }
+        Long memberId = member.getId();
+        passwordVerifier.encodeInBackground(rawPassword, newPassword -> {
+            try {
+                Integer modified = transactionTemplate.execute(status ->
+                        memberRepository.modifyPassword(memberId, oldPassword, newPassword));
+                if (modified != null && modified > 0) {
+                    rehashed.increment();
+                }
+            } catch (DataAccessException e) {
+                log.warn("회원 {}의 비밀번호 해시 갱신에 실패했습니다.", memberId, e);
+            }
+        });
+    }
+
+}
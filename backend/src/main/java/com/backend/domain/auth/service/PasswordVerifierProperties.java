@@ -0,0 +1,29 @@
+package com.backend.domain.auth.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.password-verifier")
+@Getter
+public class PasswordVerifierProperties {
+
+    private final int threads;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    public PasswordVerifierProperties(@DefaultValue("0") int threads,
+                                      @DefaultValue("64") int queueCapacity,
+                                      @DefaultValue("5s") Duration timeout,
+                                      @DefaultValue("1s") Duration retryAfter) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+    }
+
+}
@@ -1,8 +1,19 @@
 package com.backend.domain.auth.service;
 
+import com.backend.domain.auth.bloom.RevokedTokenFilter;
+import com.backend.domain.auth.cache.TokenEpochCache;
+import com.backend.domain.auth.dto.DeviceSession;
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.auth.dto.SessionItem;
 import com.backend.domain.auth.dto.TokenResponse;
+import com.backend.domain.auth.exception.ExpiredTokenException;
 import com.backend.domain.auth.exception.InvalidTokenException;
+import com.backend.domain.auth.exception.NotFoundSessionException;
 import com.backend.domain.auth.exception.NotFoundTokenException;
+import com.backend.domain.auth.exception.ReusedRefreshTokenException;
+import com.backend.domain.auth.repository.RefreshTokenRotation;
+import com.backend.domain.auth.repository.SessionRepository;
+import com.backend.domain.auth.repository.TokenEpochRepository;
 import com.backend.domain.auth.repository.TokenRepository;
 import com.backend.domain.auth.token.TokenManager;
 
@@ -12,40 +23,180 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
+    private static final int DEVICE_LABEL_MAX_LENGTH = 100;
+
     private final TokenManager tokenManager;
     private final TokenRepository tokenRepository;
+    private final SessionRepository sessionRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final TokenEpochRepository tokenEpochRepository;
+    private final TokenEpochCache tokenEpochCache;
 
-    public TokenResponse issueToken(String username, String authority) {
-        String accessToken = tokenManager.createAccessToken(username, authority);
-        String refreshToken = tokenManager.createRefreshToken(username);
-        tokenRepository.add(username, refreshToken, tokenManager.getRefreshTokenExpire());
+    /**
+     * 클라이언트가 보낸 기기 ID의 세션이 살아 있으면 같은 기기로 보고 세션을 교체한다.
+     */
+    public TokenResponse issueToken(Long memberId, String username, String nickname, String authority,
+                                    String device, String presentedDeviceId) {
+        Optional<DeviceSession> previousSession = Optional.ofNullable(presentedDeviceId)
+                .flatMap(deviceId -> sessionRepository.find(memberId, deviceId));
+        String deviceId = previousSession.map(DeviceSession::getDeviceId)
+                .orElseGet(() -> UUID.randomUUID().toString());
+        long epoch = tokenEpochRepository.find(memberId);
+        String accessToken = tokenManager.createAccessToken(memberId, username, nickname, authority, deviceId, epoch);
+        String refreshToken = tokenManager.createRefreshToken(memberId, username, nickname, authority, deviceId, epoch);
+        Claims refreshClaims = tokenManager.validateToken(refreshToken);
+        DeviceSession deviceSession = new DeviceSession(deviceId, deviceLabel(device), refreshClaims.getId(),
+                refreshClaims.getIssuedAt().getTime(), refreshClaims.getExpiration().getTime());
+        List<String> evictedDeviceIds = sessionRepository.save(memberId, deviceSession, tokenManager.getRefreshTokenExpire());
+        previousSession.ifPresent(session -> revokeTokenId(session.getRefreshTokenId(), session.getExpiresAt()));
+        evictedDeviceIds.forEach(this::revokeDevice);
         return new TokenResponse(accessToken, refreshToken);
     }
 
-    public void deleteToken(String accessToken, String username) {
+    public TokenResponse refreshToken(String refreshToken) {
+        Claims claims = tokenManager.validateToken(refreshToken);
+        Long memberId = claims.get("memberId", Long.class);
+        String deviceId = claims.get("did", String.class);
+        if (!TokenManager.REFRESH_TOKEN_TYPE.equals(claims.get("typ", String.class)) || memberId == null || deviceId == null) {
+            throw new InvalidTokenException();
+        }
+        checkRevoked(refreshToken, claims);
+        String username = claims.getSubject();
+        String nickname = claims.get("nickname", String.class);
+        String authority = claims.get("authority", String.class);
+        long epoch = tokenEpochCache.get(memberId);
+        String newAccessToken = tokenManager.createAccessToken(memberId, username, nickname, authority, deviceId, epoch);
+        String newRefreshToken = tokenManager.createRefreshToken(memberId, username, nickname, authority, deviceId, epoch);
+        Claims newRefreshClaims = tokenManager.validateToken(newRefreshToken);
+        RefreshTokenRotation rotation = sessionRepository.rotate(memberId, deviceId, claims.getId(), newRefreshClaims.getId(),
+                newRefreshClaims.getExpiration().getTime(), tokenManager.getRefreshTokenExpire());
+        if (rotation == RefreshTokenRotation.REUSED) {
+            revokeDevice(deviceId);
+            throw new ReusedRefreshTokenException();
+        }
+        if (rotation != RefreshTokenRotation.ROTATED) {
+            throw new InvalidTokenException();
+        }
+        return new TokenResponse(newAccessToken, newRefreshToken);
+    }
+
+    public void deleteToken(String accessToken, LoginMember loginMember) {
         if (accessToken == null) {
             throw new NotFoundTokenException();
         }
-        String refreshToken = tokenRepository.findByUsername(username)
+        if (loginMember.getDeviceId() == null) {
+            deleteLegacyToken(accessToken, loginMember.getUsername());
+            return;
+        }
+        DeviceSession deviceSession = sessionRepository.delete(loginMember.getMemberId(), loginMember.getDeviceId())
                 .orElseThrow(NotFoundTokenException::new);
-        tokenRepository.deleteByUsername(username);
-        tokenRepository.addBlackList(accessToken, tokenManager.getAccessTokenExpire());
-        tokenRepository.addBlackList(refreshToken, tokenManager.getRefreshTokenExpire());
+        revokeDevice(loginMember.getDeviceId());
+        revokeTokenId(deviceSession.getRefreshTokenId(), deviceSession.getExpiresAt());
+    }
+
+    public void deleteAllTokens(Long memberId) {
+        tokenEpochCache.bump(memberId, tokenManager.getRefreshTokenExpire());
+        sessionRepository.deleteAll(memberId);
+    }
+
+    public List<SessionItem> findSessions(LoginMember loginMember) {
+        return sessionRepository.findAll(loginMember.getMemberId()).stream()
+                .map(deviceSession -> new SessionItem(deviceSession, loginMember.getDeviceId()))
+                .toList();
     }
 
-    public void validateToken(String token) {
-        if (tokenRepository.isBlocked(token)) {
+    public void deleteSession(Long memberId, String deviceId) {
+        DeviceSession deviceSession = sessionRepository.delete(memberId, deviceId)
+                .orElseThrow(NotFoundSessionException::new);
+        revokeDevice(deviceId);
+        revokeTokenId(deviceSession.getRefreshTokenId(), deviceSession.getExpiresAt());
+    }
+
+    public Claims validateToken(String token) {
+        Claims claims = tokenManager.validateToken(token);
+        if (TokenManager.REFRESH_TOKEN_TYPE.equals(claims.get("typ", String.class))) {
             throw new InvalidTokenException();
         }
-        tokenManager.validateToken(token);
+        checkRevoked(token, claims);
+        return claims;
     }
 
-    public Claims extractClaim(String token) {
-        return tokenManager.extractClaims(token);
+    private void checkRevoked(String token, Claims claims) {
+        String tokenId = tokenId(token, claims);
+        if (revokedTokenFilter.mightContain(tokenId) && isBlocked(tokenId, claims)) {
+            throw new InvalidTokenException();
+        }
+        String deviceId = claims.get("did", String.class);
+        if (deviceId != null && revokedTokenFilter.mightContain(deviceId) && tokenRepository.isBlocked(deviceId)) {
+            throw new InvalidTokenException();
+        }
+        Long memberId = claims.get("memberId", Long.class);
+        if (memberId != null && epoch(claims) < tokenEpochCache.get(memberId)) {
+            throw new InvalidTokenException();
+        }
+    }
+
+    private long epoch(Claims claims) {
+        Long epoch = claims.get("epc", Long.class);
+        return epoch == null ? 0 : epoch;
+    }
+
+    private void deleteLegacyToken(String accessToken, String username) {
+        String refreshToken = tokenRepository.findLegacyRefreshToken(username)
+                .orElseThrow(NotFoundTokenException::new);
+        tokenRepository.deleteLegacyRefreshToken(username);
+        revoke(accessToken);
+        revoke(refreshToken);
+    }
+
+    private void revokeDevice(String deviceId) {
+        tokenRepository.addBlackList(deviceId, tokenManager.getAccessTokenExpire());
+        revokedTokenFilter.add(deviceId);
+    }
+
+    private void revoke(String token) {
+        Claims claims;
+        try {
+            claims = tokenManager.validateToken(token);
+        } catch (ExpiredTokenException | InvalidTokenException e) {
+            return;
+        }
+        revokeTokenId(tokenId(token, claims), claims.getExpiration().getTime());
+    }
+
+    private void revokeTokenId(String tokenId, long expiresAt) {
+        long remainingMillis = expiresAt - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        tokenRepository.addBlackList(tokenId, remainingMillis);
+        revokedTokenFilter.add(tokenId);
+    }
+
+    private boolean isBlocked(String tokenId, Claims claims) {
+        if (claims.getId() == null) {
+            return tokenRepository.isBlocked(tokenId) || tokenRepository.isLegacyBlocked(tokenId);
+        }
+        return tokenRepository.isBlocked(tokenId);
+    }
+
+    private String tokenId(String token, Claims claims) {
+        return claims.getId() != null ? claims.getId() : token;
+    }
+
+    private String deviceLabel(String device) {
+        if (device == null || device.length() <= DEVICE_LABEL_MAX_LENGTH) {
+            return device;
+        }
+        return device.substring(0, DEVICE_LABEL_MAX_LENGTH);
     }
 
 }
@@ -0,0 +1,29 @@
+package com.backend.domain.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class TokenDigest {
+
+    public static final int LENGTH = 16;
+
+    private TokenDigest() {
+    }
+
+    public static byte[] digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(hash, LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String encode(String value) {
+        return Base64.getEncoder().withoutPadding().encodeToString(digest(value));
+    }
+
+}
@@ -3,53 +3,62 @@ package com.backend.domain.auth.token;
 import com.backend.domain.auth.exception.ExpiredTokenException;
 import com.backend.domain.auth.exception.InvalidTokenException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class TokenManager {
 
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
     private final long accessTokenExpire;
     private final long refreshTokenExpire;
 
-    public TokenManager(TokenProperties properties) {
+    public TokenManager(TokenProperties properties, MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(properties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(properties.getClaimsCacheSize())
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
         this.accessTokenExpire = properties.getAccessTokenExpire();
         this.refreshTokenExpire = properties.getRefreshTokenExpire();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "verifiedClaims");
     }
 
-    public String createAccessToken(String username, String authority) {
-        Date iat = new Date(System.currentTimeMillis());
-        Date exp = new Date(iat.getTime() + accessTokenExpire);
-        return Jwts.builder()
-                .subject(username)
-                .claim("authority", authority)
-                .issuedAt(iat)
-                .expiration(exp)
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+    public String createAccessToken(Long memberId, String username, String nickname, String authority, String deviceId, long epoch) {
+        return createToken(ACCESS_TOKEN_TYPE, accessTokenExpire, memberId, username, nickname, authority, deviceId, epoch);
     }
 
-    public String createRefreshToken(String username) {
-        Date iat = new Date(System.currentTimeMillis());
-        Date exp = new Date(iat.getTime() + refreshTokenExpire);
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(iat)
-                .expiration(exp)
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+    public String createRefreshToken(Long memberId, String username, String nickname, String authority, String deviceId, long epoch) {
+        return createToken(REFRESH_TOKEN_TYPE, refreshTokenExpire, memberId, username, nickname, authority, deviceId, epoch);
     }
 
     public long getAccessTokenExpire() {
@@ -60,20 +69,42 @@ public class TokenManager {
         return this.refreshTokenExpire;
     }
 
-    public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims validateToken(String token) {
+        if (token == null) {
+            throw new InvalidTokenException();
+        }
+        String digest = TokenDigest.encode(token);
+        Claims claims = verifiedClaims.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+        claims = parse(token);
+        verifiedClaims.put(digest, claims);
+        return claims;
     }
 
-    public void validateToken(String token) {
+    private String createToken(String type, long expire, Long memberId, String username, String nickname,
+                               String authority, String deviceId, long epoch) {
+        Date iat = new Date(System.currentTimeMillis());
+        Date exp = new Date(iat.getTime() + expire);
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim("typ", type)
+                .claim("did", deviceId)
+                .claim("epc", epoch)
+                .claim("memberId", memberId)
+                .claim("nickname", nickname)
+                .claim("authority", authority)
+                .issuedAt(iat)
+                .expiration(exp)
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException ex) {
             throw new ExpiredTokenException();
         } catch (JwtException | IllegalArgumentException ex) {
@@ -81,4 +112,28 @@ public class TokenManager {
         }
     }
 
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
 }
@@ -3,6 +3,7 @@ package com.backend.domain.auth.token;
 import lombok.Getter;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "jwt")
 @Getter
@@ -11,11 +12,16 @@ public class TokenProperties {
     private final String secretKey;
     private final long accessTokenExpire;
     private final long refreshTokenExpire;
+    private final long claimsCacheSize;
 
-    public TokenProperties(String secretKey, long accessTokenExpire, long refreshTokenExpire) {
+    public TokenProperties(String secretKey,
+                           long accessTokenExpire,
+                           long refreshTokenExpire,
+                           @DefaultValue("10000") long claimsCacheSize) {
         this.secretKey = secretKey;
         this.accessTokenExpire = accessTokenExpire;
         this.refreshTokenExpire = refreshTokenExpire;
+        this.claimsCacheSize = claimsCacheSize;
     }
 
 }
@@ -1,14 +1,18 @@
 package com.backend.domain.comment.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.comment.dto.CommentCursorResponse;
 import com.backend.domain.comment.dto.CommentListResponse;
 import com.backend.domain.comment.dto.CommentModifyRequest;
 import com.backend.domain.comment.dto.CommentWriteRequest;
 import com.backend.domain.comment.service.CommentService;
+import com.backend.domain.post.service.PostVersionService;
 
 import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -28,21 +33,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
 
     private final CommentService commentService;
+    private final PostVersionService postVersionService;
 
     @PreAuthorize("permitAll()")
     @GetMapping("/{postId}/comments")
     public ResponseEntity<CommentListResponse> commentList(@PathVariable("postId") Long postId,
-                                                           @RequestParam("page") int page) {
+                                                           @RequestParam("page") int page,
+                                                           WebRequest webRequest) {
+        if (postVersionService.commentListVersion(postId, page)
+                .map(version -> version.isNotModified(webRequest))
+                .orElse(false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         CommentListResponse commentListResponse = commentService.commentList(postId, page);
         return ResponseEntity.ok().body(commentListResponse);
     }
 
+    @PreAuthorize("permitAll()")
+    @GetMapping(value = "/{postId}/comments", params = "after")
+    public ResponseEntity<CommentCursorResponse> commentListCursor(@PathVariable("postId") Long postId,
+                                                                   @RequestParam(value = "after", required = false) Long after,
+                                                                   WebRequest webRequest) {
+        if (postVersionService.commentCursorVersion(postId, after)
+                .map(version -> version.isNotModified(webRequest))
+                .orElse(false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        CommentCursorResponse commentCursorResponse = commentService.commentListCursor(postId, after);
+        return ResponseEntity.ok().body(commentCursorResponse);
+    }
+
     @PreAuthorize("hasRole('MEMBER')")
     @PostMapping("/{postId}/comments/write")
     public ResponseEntity<Void> commentWrite(@PathVariable("postId") Long postId,
-                                             @AuthenticationPrincipal String username,
+                                             @AuthenticationPrincipal LoginMember loginMember,
                                              @RequestBody @Valid CommentWriteRequest commentWriteRequest) {
-        commentService.commentWrite(postId, username, commentWriteRequest);
+        commentService.commentWrite(postId, loginMember, commentWriteRequest);
         return ResponseEntity.ok().build();
     }
 
@@ -50,9 +76,9 @@ public class CommentController {
     @PutMapping("/{postId}/comments/{commentId}")
     public ResponseEntity<Void> commentModify(@PathVariable("postId") Long postId,
                                               @PathVariable("commentId") Long commentId,
-                                              @AuthenticationPrincipal String username,
+                                              @AuthenticationPrincipal LoginMember loginMember,
                                               @RequestBody @Valid CommentModifyRequest commentModifyRequest) {
-        commentService.commentModify(postId, commentId, username, commentModifyRequest);
+        commentService.commentModify(postId, commentId, loginMember.getUsername(), commentModifyRequest);
         return ResponseEntity.ok().build();
     }
 
@@ -60,8 +86,8 @@ public class CommentController {
     @DeleteMapping("/{postId}/comments/{commentId}")
     public ResponseEntity<Void> commentDelete(@PathVariable("postId") Long postId,
                                               @PathVariable("commentId") Long commentId,
-                                              @AuthenticationPrincipal String username) {
-        commentService.commentDelete(postId, commentId, username);
+                                              @AuthenticationPrincipal LoginMember loginMember) {
+        commentService.commentDelete(postId, commentId, loginMember.getUsername());
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,30 @@
+package com.backend.domain.comment.dto;
+
+import com.backend.domain.comment.entity.Comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCursorResponse {
+
+    private List<CommentItem> comments;
+    private Long nextCursor;
+    private boolean next;
+
+    public CommentCursorResponse(Slice<Comment> commentSlice) {
+        this.comments = commentSlice.getContent().stream()
+                .map(CommentItem::new)
+                .toList();
+        this.next = commentSlice.hasNext();
+        this.nextCursor = next ? comments.get(comments.size() - 1).getCommentId() : null;
+    }
+
+}
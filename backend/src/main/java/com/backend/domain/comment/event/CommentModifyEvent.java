@@ -0,0 +1,12 @@
+package com.backend.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentModifyEvent {
+
+    private final Long postId;
+
+}
@@ -2,13 +2,15 @@ package com.backend.domain.comment.repository;
 
 import com.backend.domain.comment.entity.Comment;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -20,6 +22,56 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Modifying
     void deleteByPostId(@Param("postId") Long postId);
 
-    Page<Comment> findAllByPostId(Long postId, Pageable pageable);
+    @Query(
+            value = "UPDATE Comment AS c " +
+                    "SET c.content = :content, c.updatedAt = :updatedAt " +
+                    "WHERE c.id = :commentId AND c.post.id = :postId " +
+                    "AND c.post.id IN (SELECT p.id FROM Post AS p WHERE p.id = :postId AND p.deleted = false) " +
+                    "AND c.member.id = (SELECT m.id FROM Member AS m WHERE m.username = :username)"
+    )
+    @Modifying
+    int modifyByPostIdAndCommentIdAndUsername(@Param("postId") Long postId,
+                                              @Param("commentId") Long commentId,
+                                              @Param("username") String username,
+                                              @Param("content") String content,
+                                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(
+            value = "DELETE FROM Comment AS c " +
+                    "WHERE c.id = :commentId AND c.post.id = :postId " +
+                    "AND c.post.id IN (SELECT p.id FROM Post AS p WHERE p.id = :postId AND p.deleted = false) " +
+                    "AND c.member.id = (SELECT m.id FROM Member AS m WHERE m.username = :username)"
+    )
+    @Modifying
+    int deleteByPostIdAndCommentIdAndUsername(@Param("postId") Long postId,
+                                              @Param("commentId") Long commentId,
+                                              @Param("username") String username);
+
+    @Query(
+            value = "SELECT COUNT(c) > 0 FROM Comment AS c " +
+                    "WHERE c.id = :commentId AND c.post.id = :postId " +
+                    "AND c.post.id IN (SELECT p.id FROM Post AS p WHERE p.id = :postId AND p.deleted = false)"
+    )
+    boolean existsByIdAndPostId(@Param("commentId") Long commentId, @Param("postId") Long postId);
+
+    @Query(
+            value = "SELECT c FROM Comment AS c " +
+                    "WHERE c.post.id = :postId " +
+                    "AND c.post.id IN (SELECT p.id FROM Post AS p WHERE p.id = :postId AND p.deleted = false)"
+    )
+    List<Comment> findAllByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(
+            value = "SELECT c FROM Comment AS c " +
+                    "WHERE c.post.id = :postId AND c.id > :after " +
+                    "AND c.post.id IN (SELECT p.id FROM Post AS p WHERE p.id = :postId AND p.deleted = false) " +
+                    "ORDER BY c.id ASC"
+    )
+    Slice<Comment> findAllByPostIdAfter(@Param("postId") Long postId, @Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment AS c WHERE c.post.id = :postId ORDER BY c.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    long countByPostId(Long postId);
 
 }
@@ -1,29 +1,38 @@
 package com.backend.domain.comment.service;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.comment.dto.CommentCursorResponse;
 import com.backend.domain.comment.dto.CommentListResponse;
 import com.backend.domain.comment.dto.CommentModifyRequest;
 import com.backend.domain.comment.dto.CommentWriteRequest;
 import com.backend.domain.comment.entity.Comment;
+import com.backend.domain.comment.event.CommentDeleteEvent;
+import com.backend.domain.comment.event.CommentModifyEvent;
+import com.backend.domain.comment.event.CommentWriteEvent;
 import com.backend.domain.comment.exception.AccessDeniedDeleteCommentException;
 import com.backend.domain.comment.exception.AccessDeniedModifyCommentException;
 import com.backend.domain.comment.exception.NotFoundCommentException;
 import com.backend.domain.comment.repository.CommentRepository;
-import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.exception.NotFoundMemberException;
 import com.backend.domain.member.repository.MemberRepository;
-import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.count.CountService;
 import com.backend.domain.post.exception.NotFoundPostException;
 import com.backend.domain.post.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -31,54 +40,66 @@ public class CommentService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final CountService countService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public CommentListResponse commentList(Long postId, int page) {
         page = page <= 0 ? 0 : page - 1;
         Pageable pageable = PageRequest.of(page, 10, Sort.Direction.ASC, "id");
-        Page<Comment> commentPage = commentRepository.findAllByPostId(postId, pageable);
+        List<Comment> comments = commentRepository.findAllByPostId(postId, pageable);
+        Page<Comment> commentPage = new PageImpl<>(comments, pageable, countService.commentCount(postId));
         return new CommentListResponse(commentPage);
     }
 
+    @Transactional(readOnly = true)
+    public CommentCursorResponse commentListCursor(Long postId, Long after) {
+        long cursor = after == null ? 0 : after;
+        Slice<Comment> commentSlice = commentRepository.findAllByPostIdAfter(postId, cursor, PageRequest.of(0, 10));
+        return new CommentCursorResponse(commentSlice);
+    }
+
     @Transactional
-    public void commentWrite(Long postId, String username, CommentWriteRequest commentWriteRequest) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(NotFoundPostException::new);
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(NotFoundMemberException::new);
+    public void commentWrite(Long postId, LoginMember loginMember, CommentWriteRequest commentWriteRequest) {
+        if (postRepository.increaseCommentCount(postId) == 0) {
+            throw new NotFoundPostException();
+        }
         Comment comment = Comment.builder()
-                .writer(member.getNickname())
+                .writer(loginMember.getNickname())
                 .content(commentWriteRequest.getContent())
-                .member(member)
-                .post(post)
+                .member(memberRepository.getReferenceById(loginMember.getMemberId()))
+                .post(postRepository.getReferenceById(postId))
                 .build();
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentWriteEvent(postId));
     }
 
     @Transactional
     public void commentModify(Long postId, Long commentId, String loginUsername, CommentModifyRequest commentModifyRequest) {
-        Comment comment = commentRepository.findByPostIdAndCommentId(postId, commentId)
-                .orElseThrow(NotFoundCommentException::new);
-        String commentOwner = comment.getMember().getUsername();
-        if (isNotCommentOwner(commentOwner, loginUsername)) {
+        int modified = commentRepository.modifyByPostIdAndCommentIdAndUsername(postId, commentId, loginUsername,
+                commentModifyRequest.getContent(), LocalDateTime.now());
+        if (modified == 0) {
+            validateCommentExists(postId, commentId);
             throw new AccessDeniedModifyCommentException();
         }
-        comment.modify(commentModifyRequest.getContent());
+        eventPublisher.publishEvent(new CommentModifyEvent(postId));
     }
 
     @Transactional
     public void commentDelete(Long postId, Long commentId, String loginUsername) {
-        Comment comment = commentRepository.findByPostIdAndCommentId(postId, commentId)
-                .orElseThrow(NotFoundCommentException::new);
-        String commentOwner = comment.getMember().getUsername();
-        if (isNotCommentOwner(commentOwner, loginUsername)) {
+        int deleted = commentRepository.deleteByPostIdAndCommentIdAndUsername(postId, commentId, loginUsername);
+        if (deleted == 0) {
+            validateCommentExists(postId, commentId);
             throw new AccessDeniedDeleteCommentException();
         }
-        commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(postId);
+        eventPublisher.publishEvent(new CommentDeleteEvent(postId));
     }
 
-    private boolean isNotCommentOwner(String commentOwner, String loginUsername) {
-        return !commentOwner.equals(loginUsername);
+    private void validateCommentExists(Long postId, Long commentId) {
+        if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+            throw new NotFoundCommentException();
+        }
     }
 
 }
@@ -0,0 +1,94 @@
+package com.backend.domain.member.bloom;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberSignupEvent;
+import com.backend.domain.member.repository.MemberRepository;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Slf4j
+@Component
+public class MemberBloomFilter {
+
+    private static final ChannelTopic USERNAME_TOPIC = new ChannelTopic("member:bloom:username");
+    private static final ChannelTopic NICKNAME_TOPIC = new ChannelTopic("member:bloom:nickname");
+
+    private final BloomFilter<String> usernames;
+    private final BloomFilter<String> nicknames;
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int rebuildBatchSize;
+    private volatile boolean ready;
+
+    public MemberBloomFilter(MemberBloomFilterProperties properties,
+                             MemberRepository memberRepository,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.usernames = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+        this.nicknames = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rebuildBatchSize = properties.getRebuildBatchSize();
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                usernames.put(new String(message.getBody(), StandardCharsets.UTF_8)), USERNAME_TOPIC);
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                nicknames.put(new String(message.getBody(), StandardCharsets.UTF_8)), NICKNAME_TOPIC);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = 0;
+        Long lastId = 0L;
+        List<Member> members;
+        do {
+            members = memberRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, rebuildBatchSize));
+            for (Member member : members) {
+                usernames.put(member.getUsername());
+                nicknames.put(member.getNickname());
+                lastId = member.getId();
+            }
+            count += members.size();
+        } while (members.size() == rebuildBatchSize);
+        ready = true;
+        log.info("회원 {}명으로 블룸 필터를 구성했습니다.", count);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return !ready || usernames.mightContain(username);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return !ready || nicknames.mightContain(nickname);
+    }
+
+    @TransactionalEventListener
+    public void handleMemberSignup(MemberSignupEvent event) {
+        usernames.put(event.getUsername());
+        nicknames.put(event.getNickname());
+        try {
+            stringRedisTemplate.convertAndSend(USERNAME_TOPIC.getTopic(), event.getUsername());
+            stringRedisTemplate.convertAndSend(NICKNAME_TOPIC.getTopic(), event.getNickname());
+        } catch (DataAccessException e) {
+            log.warn("회원 블룸 필터 갱신 메시지 발행에 실패했습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.member.bloom;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.member-bloom-filter")
+@Getter
+public class MemberBloomFilterProperties {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final int rebuildBatchSize;
+
+    public MemberBloomFilterProperties(@DefaultValue("1000000") long expectedInsertions,
+                                       @DefaultValue("0.001") double falsePositiveProbability,
+                                       @DefaultValue("1000") int rebuildBatchSize) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+}
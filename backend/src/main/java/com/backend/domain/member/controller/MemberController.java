@@ -1,6 +1,7 @@
 package com.backend.domain.member.controller;
 
 import com.backend.domain.member.dto.MemberSignupRequest;
+import com.backend.domain.member.dto.NicknameCheckResponse;
 import com.backend.domain.member.service.MemberService;
 
 import jakarta.validation.Valid;
@@ -9,9 +10,11 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -28,4 +31,11 @@ public class MemberController {
         return ResponseEntity.ok().build();
     }
 
+    @PreAuthorize("permitAll()")
+    @GetMapping("/check")
+    public ResponseEntity<NicknameCheckResponse> nicknameCheck(@RequestParam("nickname") String nickname) {
+        NicknameCheckResponse nicknameCheckResponse = memberService.nicknameCheck(nickname);
+        return ResponseEntity.ok().body(nicknameCheckResponse);
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.backend.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NicknameCheckResponse {
+
+    private String nickname;
+    private boolean available;
+
+}
@@ -8,25 +8,36 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Member.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname"),
+        @UniqueConstraint(name = Member.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username")
+})
 @NoArgsConstructor
 @Getter
 public class Member extends BaseEntity {
 
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_member_nickname";
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_member_username";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "member_id")
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String nickname;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
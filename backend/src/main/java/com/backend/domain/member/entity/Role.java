@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum Role {
 
-    MEMBER("ROLE_MEMBER");
+    MEMBER("ROLE_MEMBER"),
+    ADMIN("ROLE_ADMIN");
 
     private final String authority;
 
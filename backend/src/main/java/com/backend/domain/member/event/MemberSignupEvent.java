@@ -0,0 +1,13 @@
+package com.backend.domain.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberSignupEvent {
+
+    private final String username;
+    private final String nickname;
+
+}
@@ -2,8 +2,13 @@ package com.backend.domain.member.repository;
 
 import com.backend.domain.member.entity.Member;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -11,5 +16,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByNickname(String nickname);
     boolean existsByUsername(String username);
     Optional<Member> findByUsername(String username);
+    List<Member> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("UPDATE Member AS m SET m.password = :newPassword WHERE m.id = :memberId AND m.password = :oldPassword")
+    @Modifying
+    int modifyPassword(@Param("memberId") Long memberId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 
 }
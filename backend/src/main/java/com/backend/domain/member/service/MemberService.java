@@ -1,30 +1,43 @@
 package com.backend.domain.member.service;
 
+import com.backend.domain.member.bloom.MemberBloomFilter;
 import com.backend.domain.member.dto.MemberSignupRequest;
+import com.backend.domain.member.dto.NicknameCheckResponse;
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberSignupEvent;
 import com.backend.domain.member.exception.DuplicateNicknameException;
 import com.backend.domain.member.exception.DuplicateUsernameException;
 import com.backend.domain.member.repository.MemberRepository;
 
 import lombok.RequiredArgsConstructor;
 
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberBloomFilter memberBloomFilter;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void memberSignup(MemberSignupRequest memberSignupRequest) {
-        if (memberRepository.existsByNickname(memberSignupRequest.getNickname())) {
+        if (memberBloomFilter.mightContainNickname(memberSignupRequest.getNickname())
+                && memberRepository.existsByNickname(memberSignupRequest.getNickname())) {
             throw new DuplicateNicknameException();
         }
-        if (memberRepository.existsByUsername(memberSignupRequest.getUsername())) {
+        if (memberBloomFilter.mightContainUsername(memberSignupRequest.getUsername())
+                && memberRepository.existsByUsername(memberSignupRequest.getUsername())) {
             throw new DuplicateUsernameException();
         }
         String encodedPassword = passwordEncoder.encode(memberSignupRequest.getPassword());
@@ -33,7 +46,36 @@ public class MemberService {
                 .username(memberSignupRequest.getUsername())
                 .password(encodedPassword)
                 .build();
-        memberRepository.save(member);
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        eventPublisher.publishEvent(new MemberSignupEvent(member.getUsername(), member.getNickname()));
+    }
+
+    public NicknameCheckResponse nicknameCheck(String nickname) {
+        boolean available = !memberBloomFilter.mightContainNickname(nickname)
+                || !memberRepository.existsByNickname(nickname);
+        return new NicknameCheckResponse(nickname, available);
+    }
+
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        String constraintName = e.getMostSpecificCause().getMessage();
+        if (e.getCause() instanceof ConstraintViolationException cause && cause.getConstraintName() != null) {
+            constraintName = cause.getConstraintName();
+        }
+        if (constraintName == null) {
+            return e;
+        }
+        String normalized = constraintName.toLowerCase(Locale.ROOT);
+        if (normalized.contains(Member.NICKNAME_UNIQUE_CONSTRAINT)) {
+            return new DuplicateNicknameException();
+        }
+        if (normalized.contains(Member.USERNAME_UNIQUE_CONSTRAINT)) {
+            return new DuplicateUsernameException();
+        }
+        return e;
     }
 
 }
@@ -0,0 +1,156 @@
+package com.backend.domain.post.cache;
+
+import com.backend.domain.comment.event.CommentDeleteEvent;
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.dto.PostDetailResponse;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.repository.PostVersionRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String KEY_PREFIX = "post:detail:";
+    private static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("post:detail:invalidation");
+
+    private final Cache<Long, PostDetailResponse> localCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostVersionRepository postVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+
+    public PostDetailCache(PostDetailCacheProperties properties,
+                           StringRedisTemplate stringRedisTemplate,
+                           PostVersionRepository postVersionRepository,
+                           ObjectMapper objectMapper,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           MeterRegistry meterRegistry) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postVersionRepository = postVersionRepository;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = properties.getRemoteTtl();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "postDetail");
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))), INVALIDATION_TOPIC);
+    }
+
+    /**
+     * Redis 캐시는 조회 전에 읽은 상세 버전으로 키를 나눈다.
+     * 다른 서버의 수정 커밋 전에 읽은 본문은 이전 버전 키에만 저장되므로 무효화 이후에 덮어쓰지 못한다.
+     */
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        return localCache.get(postId, key -> {
+            Optional<String> remoteKey = findRemoteKey(key);
+            return remoteKey.flatMap(this::getRemote).orElseGet(() -> {
+                PostDetailResponse postDetailResponse = loader.get();
+                remoteKey.ifPresent(versionedKey -> putRemote(versionedKey, postDetailResponse));
+                return postDetailResponse;
+            });
+        });
+    }
+
+    public Optional<PostDetailResponse> getIfPresentLocal(Long postId) {
+        return Optional.ofNullable(localCache.getIfPresent(postId));
+    }
+
+    public void evict(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            postVersionRepository.findDetailVersionIfPresent(postId)
+                    .ifPresent(version -> stringRedisTemplate.delete(remoteKey(postId, version)));
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), String.valueOf(postId));
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 상세 캐시 무효화에 실패했습니다.", postId, e);
+        }
+    }
+
+    public void evictLocal(Long postId) {
+        localCache.invalidate(postId);
+    }
+
+    @TransactionalEventListener
+    public void handlePostModify(PostModifyEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentWrite(CommentWriteEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentDelete(CommentDeleteEvent event) {
+        evict(event.getPostId());
+    }
+
+    private Optional<String> findRemoteKey(Long postId) {
+        try {
+            return postVersionRepository.findDetailVersionIfPresent(postId)
+                    .map(version -> remoteKey(postId, version));
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 상세 버전 조회에 실패했습니다.", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    private String remoteKey(Long postId, long version) {
+        return KEY_PREFIX + postId + ":" + version;
+    }
+
+    private Optional<PostDetailResponse> getRemote(String key) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, PostDetailResponse.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 {} 조회에 실패했습니다.", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void putRemote(String key, PostDetailResponse postDetailResponse) {
+        try {
+            String value = objectMapper.writeValueAsString(postDetailResponse);
+            stringRedisTemplate.opsForValue().set(key, value, remoteTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 {} 저장에 실패했습니다.", key, e);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.backend.domain.post.cache;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.post-detail-cache")
+@Getter
+public class PostDetailCacheProperties {
+
+    private final long maximumSize;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+
+    public PostDetailCacheProperties(@DefaultValue("10000") long maximumSize,
+                                     @DefaultValue("1m") Duration localTtl,
+                                     @DefaultValue("30m") Duration remoteTtl) {
+        this.maximumSize = maximumSize;
+        this.localTtl = localTtl;
+        this.remoteTtl = remoteTtl;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.backend.domain.post.cache;
+
+import com.backend.domain.comment.event.CommentDeleteEvent;
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.dto.PostListResponse;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.Getter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+@Component
+public class PostListCache {
+
+    private final Cache<PageKey, PostListResponse> cache;
+    @Getter
+    private final int pages;
+    private volatile long latestListVersion;
+
+    public PostListCache(PostListCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getPages())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.pages = properties.getPages();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postList");
+    }
+
+    public PostListResponse get(int page, long listVersion, Supplier<PostListResponse> loader) {
+        if (page >= pages) {
+            return loader.get();
+        }
+        if (listVersion > latestListVersion) {
+            latestListVersion = listVersion;
+            cache.asMap().keySet().removeIf(key -> key.listVersion() < listVersion);
+        }
+        return cache.get(new PageKey(listVersion, page), key -> loader.get());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void handlePostWrite(PostWriteEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void handlePostImport(PostImportEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void handlePostModify(PostModifyEvent event) {
+        invalidatePageOf(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentWrite(CommentWriteEvent event) {
+        invalidatePageOf(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentDelete(CommentDeleteEvent event) {
+        invalidatePageOf(event.getPostId());
+    }
+
+    private void invalidatePageOf(Long postId) {
+        cache.asMap().values().removeIf(postListResponse -> postListResponse.getPosts().stream()
+                .anyMatch(postItem -> postItem.getPostId().equals(postId)));
+    }
+
+    private record PageKey(long listVersion, int page) {
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.backend.domain.post.cache;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.post-list-cache")
+@Getter
+public class PostListCacheProperties {
+
+    private final int pages;
+    private final Duration ttl;
+
+    public PostListCacheProperties(@DefaultValue("3") int pages,
+                                   @DefaultValue("10m") Duration ttl) {
+        this.pages = pages;
+        this.ttl = ttl;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.backend.domain.post.cache;
+
+import com.backend.domain.post.service.PostService;
+import com.backend.domain.post.service.PostVersionService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostListCacheWarmer {
+
+    private final PostService postService;
+    private final PostVersionService postVersionService;
+    private final PostListCache postListCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long listVersion = postVersionService.findListVersion().orElse(0L);
+        for (int page = 1; page <= postListCache.getPages(); page++) {
+            postService.postList(page, listVersion);
+        }
+    }
+
+}
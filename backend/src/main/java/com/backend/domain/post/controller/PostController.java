@@ -1,15 +1,22 @@
 package com.backend.domain.post.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.post.dto.PostCursorResponse;
 import com.backend.domain.post.dto.PostDetailResponse;
 import com.backend.domain.post.dto.PostListResponse;
 import com.backend.domain.post.dto.PostModifyRequest;
+import com.backend.domain.post.dto.PostPopularResponse;
 import com.backend.domain.post.dto.PostWriteRequest;
+import com.backend.domain.post.service.PopularPostService;
 import com.backend.domain.post.service.PostService;
+import com.backend.domain.post.service.PostVersionService;
+import com.backend.global.common.web.ResourceVersion;
 
 import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,6 +29,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -29,29 +39,68 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostService postService;
+    private final PopularPostService popularPostService;
+    private final PostVersionService postVersionService;
 
     @PreAuthorize("hasRole('MEMBER')")
     @PostMapping("/write")
     public ResponseEntity<Void> postWrite(@RequestBody @Valid PostWriteRequest postWriteRequest,
-                                          @AuthenticationPrincipal String username) {
-        postService.postWrite(postWriteRequest, username);
+                                          @AuthenticationPrincipal LoginMember loginMember) {
+        postService.postWrite(postWriteRequest, loginMember);
         return ResponseEntity.ok().build();
     }
 
     @PreAuthorize("permitAll()")
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDetailResponse> postDetail(@PathVariable("postId") Long postId) {
+    public ResponseEntity<PostDetailResponse> postDetail(@PathVariable("postId") Long postId, WebRequest webRequest) {
+        Optional<ResourceVersion> postDetailVersion = ResourceVersion.isConditional(webRequest)
+                ? postVersionService.findPostDetailVersion(postId)
+                : Optional.empty();
+        if (postDetailVersion.map(version -> version.isNotModified(webRequest)).orElse(false)) {
+            postService.postView(postId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         PostDetailResponse postDetailResponse = postService.postDetail(postId);
-        return ResponseEntity.ok().body(postDetailResponse);
+        return postDetailVersion.or(() -> postVersionService.postDetailVersion(postId))
+                .map(version -> ResponseEntity.ok()
+                        .eTag(version.getEtag())
+                        .lastModified(version.getLastModified()))
+                .orElseGet(ResponseEntity::ok)
+                .body(postDetailResponse);
     }
 
     @PreAuthorize("permitAll()")
     @GetMapping
-    public ResponseEntity<PostListResponse> postList(@RequestParam("page") int page) {
-        PostListResponse postListResponse = postService.postList(page);
+    public ResponseEntity<PostListResponse> postList(@RequestParam("page") int page, WebRequest webRequest) {
+        Optional<Long> listVersion = postVersionService.findListVersion();
+        if (listVersion.map(version -> postVersionService.postListVersion(page, version).isNotModified(webRequest))
+                .orElse(false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        PostListResponse postListResponse = postService.postList(page, listVersion.orElse(0L));
         return ResponseEntity.ok().body(postListResponse);
     }
 
+    @PreAuthorize("permitAll()")
+    @GetMapping(params = "before")
+    public ResponseEntity<PostCursorResponse> postListCursor(@RequestParam(value = "before", required = false) Long before,
+                                                             WebRequest webRequest) {
+        if (postVersionService.postCursorVersion(before)
+                .map(version -> version.isNotModified(webRequest))
+                .orElse(false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        PostCursorResponse postCursorResponse = postService.postListCursor(before);
+        return ResponseEntity.ok().body(postCursorResponse);
+    }
+
+    @PreAuthorize("permitAll()")
+    @GetMapping("/popular")
+    public ResponseEntity<PostPopularResponse> postPopular(@RequestParam(value = "window", defaultValue = "24h") String window) {
+        PostPopularResponse postPopularResponse = popularPostService.popularPosts(window);
+        return ResponseEntity.ok().body(postPopularResponse);
+    }
+
     @PreAuthorize("permitAll()")
     @GetMapping("/search")
     public ResponseEntity<PostListResponse> postListSearch(@RequestParam("type") String type,
@@ -64,17 +113,17 @@ public class PostController {
     @PreAuthorize("hasRole('MEMBER')")
     @PutMapping("/{postId}")
     public ResponseEntity<Void> postModify(@PathVariable("postId") Long postId,
-                                           @AuthenticationPrincipal String username,
+                                           @AuthenticationPrincipal LoginMember loginMember,
                                            @RequestBody @Valid PostModifyRequest postModifyRequest) {
-        postService.postModify(postId, username, postModifyRequest);
+        postService.postModify(postId, loginMember.getUsername(), postModifyRequest);
         return ResponseEntity.ok().build();
     }
 
     @PreAuthorize("hasRole('MEMBER')")
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> postDelete(@PathVariable("postId") Long postId,
-                                           @AuthenticationPrincipal String username) {
-        postService.postDelete(postId, username);
+                                           @AuthenticationPrincipal LoginMember loginMember) {
+        postService.postDelete(postId, loginMember.getUsername());
         return ResponseEntity.ok().build();
     }
 
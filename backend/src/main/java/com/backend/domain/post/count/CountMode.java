@@ -0,0 +1,7 @@
+package com.backend.domain.post.count;
+
+public enum CountMode {
+
+    EXACT, APPROXIMATE
+
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.post.count;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.count")
+@Getter
+public class CountProperties {
+
+    private final CountMode mode;
+
+    public CountProperties(@DefaultValue("approximate") CountMode mode) {
+        this.mode = mode;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.backend.domain.post.count;
+
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+import com.backend.domain.post.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class CountService {
+
+    private static final long NOT_LOADED = -1;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final CountProperties properties;
+    private final AtomicLong postCount = new AtomicLong(NOT_LOADED);
+
+    public long postCount() {
+        if (isExact()) {
+            return postRepository.count();
+        }
+        if (postCount.get() == NOT_LOADED) {
+            refresh();
+        }
+        return postCount.get();
+    }
+
+    public long commentCount(Long postId) {
+        if (isExact()) {
+            return commentRepository.countByPostId(postId);
+        }
+        return postRepository.findCommentCountById(postId).orElse(0L);
+    }
+
+    @TransactionalEventListener
+    public void handlePostWrite(PostWriteEvent event) {
+        postCount.updateAndGet(count -> count == NOT_LOADED ? count : count + 1);
+    }
+
+    @TransactionalEventListener
+    public void handlePostImport(PostImportEvent event) {
+        postCount.updateAndGet(count -> count == NOT_LOADED ? count : count + event.getPostIds().size());
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        postCount.updateAndGet(count -> count == NOT_LOADED ? count : Math.max(count - 1, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${board.count.refresh-interval:60000}")
+    public void refresh() {
+        postCount.set(postRepository.count());
+    }
+
+    private boolean isExact() {
+        return properties.getMode() == CountMode.EXACT;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.backend.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorResponse {
+
+    private List<PostItem> posts;
+    private Long nextCursor;
+    private boolean next;
+
+    public PostCursorResponse(Slice<PostItem> postSlice) {
+        this.posts = postSlice.getContent();
+        this.next = postSlice.hasNext();
+        this.nextCursor = next ? posts.get(posts.size() - 1).getPostId() : null;
+    }
+
+}
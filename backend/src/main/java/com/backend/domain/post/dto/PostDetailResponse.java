@@ -18,6 +18,8 @@ public class PostDetailResponse {
     private String writer;
     private String content;
     private LocalDateTime createdAt;
+    private long viewCount;
+    private long commentCount;
 
     public PostDetailResponse(Post post) {
         this.postId = post.getId();
@@ -25,6 +27,12 @@ public class PostDetailResponse {
         this.writer = post.getWriter();
         this.content = post.getContent();
         this.createdAt = post.getCreatedAt();
+        this.viewCount = post.getViewCount();
+        this.commentCount = post.getCommentCount();
+    }
+
+    public PostDetailResponse addViewCount(long pendingViewCount) {
+        return new PostDetailResponse(postId, title, writer, content, createdAt, viewCount + pendingViewCount, commentCount);
     }
 
 }
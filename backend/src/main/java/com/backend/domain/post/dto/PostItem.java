@@ -1,5 +1,7 @@
 package com.backend.domain.post.dto;
 
+import com.backend.domain.post.entity.Post;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -16,13 +18,28 @@ public class PostItem {
     private String writer;
     private LocalDateTime createdAt;
     private long commentCount;
+    private long viewCount;
 
-    public PostItem(Long postId, String title, String writer, LocalDateTime createdAt, long commentCount) {
+    public PostItem(Long postId, String title, String writer, LocalDateTime createdAt, long commentCount, long viewCount) {
         this.postId = postId;
         this.title = title;
         this.writer = writer;
         this.createdAt = createdAt;
         this.commentCount = commentCount;
+        this.viewCount = viewCount;
+    }
+
+    public PostItem(Post post) {
+        this(post.getId(), post.getTitle(), post.getWriter(), post.getCreatedAt(), post.getCommentCount(), post.getViewCount());
+    }
+
+    public PostItem(PostDetailResponse postDetailResponse) {
+        this(postDetailResponse.getPostId(), postDetailResponse.getTitle(), postDetailResponse.getWriter(),
+                postDetailResponse.getCreatedAt(), postDetailResponse.getCommentCount(), postDetailResponse.getViewCount());
+    }
+
+    public PostItem addViewCount(long pendingViewCount) {
+        return new PostItem(postId, title, writer, createdAt, commentCount, viewCount + pendingViewCount);
     }
 
 }
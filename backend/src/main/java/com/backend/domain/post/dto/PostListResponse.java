@@ -33,4 +33,8 @@ public class PostListResponse {
         this.next = postPage.hasNext();
     }
 
+    public PostListResponse withPosts(List<PostItem> posts) {
+        return new PostListResponse(posts, page, totalPages, totalPosts, first, last, prev, next);
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.backend.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPopularResponse {
+
+    private String window;
+    private List<PostItem> posts;
+
+}
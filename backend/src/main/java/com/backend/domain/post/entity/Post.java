@@ -11,18 +11,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.SQLRestriction;
+
 @Entity
+@SQLRestriction("deleted = false")
 @NoArgsConstructor
 @Getter
 public class Post extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
 
@@ -35,6 +40,15 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private String content;
 
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -47,9 +61,4 @@ public class Post extends BaseEntity {
         this.member = member;
     }
 
-    public void modify(String title, String content) {
-        this.title = title;
-        this.content = content;
-    }
-
 }
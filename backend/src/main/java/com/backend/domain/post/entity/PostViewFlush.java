@@ -0,0 +1,25 @@
+package com.backend.domain.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = @Index(name = "idx_post_view_flush_generation", columnList = "generation"))
+@NoArgsConstructor
+@Getter
+public class PostViewFlush {
+
+    @Id
+    @Column(name = "batch_id")
+    private String batchId;
+
+    @Column(nullable = false)
+    private String generation;
+
+}
@@ -0,0 +1,14 @@
+package com.backend.domain.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostImportEvent {
+
+    private final List<Long> postIds;
+
+}
@@ -0,0 +1,12 @@
+package com.backend.domain.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostViewEvent {
+
+    private final Long postId;
+
+}
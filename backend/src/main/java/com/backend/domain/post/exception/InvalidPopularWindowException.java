@@ -0,0 +1,12 @@
+package com.backend.domain.post.exception;
+
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.InvalidInputException;
+
+public class InvalidPopularWindowException extends InvalidInputException {
+
+    public InvalidPopularWindowException() {
+        super(ErrorType.INVALID_POPULAR_WINDOW);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.backend.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PopularPostRepository {
+
+    private static final String KEY_PREFIX = "post:popular:";
+    private static final String RANK_KEY_PREFIX = "post:popular:rank:";
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(26);
+    private static final Duration DAY_BUCKET_TTL = Duration.ofDays(9);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOP_POST_IDS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                local command = {'ZUNIONSTORE', KEYS[1], #KEYS - 1}
+                for i = 2, #KEYS do
+                    table.insert(command, KEYS[i])
+                end
+                table.insert(command, 'WEIGHTS')
+                for i = 3, #ARGV do
+                    table.insert(command, ARGV[i])
+                end
+                table.insert(command, 'AGGREGATE')
+                table.insert(command, 'SUM')
+                redis.call(unpack(command))
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void increase(Long postId, double score, String hourBucket, String dayBucket) {
+        String member = String.valueOf(postId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.zIncrBy(KEY_PREFIX + hourBucket, score, member);
+            stringRedisConnection.expire(KEY_PREFIX + hourBucket, HOUR_BUCKET_TTL.toSeconds());
+            stringRedisConnection.zIncrBy(KEY_PREFIX + dayBucket, score, member);
+            stringRedisConnection.expire(KEY_PREFIX + dayBucket, DAY_BUCKET_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Long> findTopPostIds(String window, Map<String, Double> buckets, int size, Duration rankTtl) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(RANK_KEY_PREFIX + window);
+        args.add(String.valueOf(rankTtl.toMillis()));
+        args.add(String.valueOf(size));
+        buckets.forEach((bucket, weight) -> {
+            keys.add(KEY_PREFIX + bucket);
+            args.add(String.valueOf(weight));
+        });
+        List<String> postIds = stringRedisTemplate.execute(TOP_POST_IDS_SCRIPT, keys, args.toArray());
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public void remove(Long postId, Collection<String> buckets, Collection<String> windows) {
+        String member = String.valueOf(postId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            buckets.forEach(bucket -> stringRedisConnection.zRem(KEY_PREFIX + bucket, member));
+            windows.forEach(window -> stringRedisConnection.zRem(RANK_KEY_PREFIX + window, member));
+            return null;
+        });
+    }
+
+}
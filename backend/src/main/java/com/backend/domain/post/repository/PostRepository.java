@@ -5,39 +5,139 @@ import com.backend.domain.post.entity.Post;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query(
-            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, COUNT(c.id)) " +
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
+                    "FROM Post AS p " +
+                    "ORDER BY p.id DESC"
+    )
+    List<PostItem> findAllPost(Pageable pageable);
+
+    @Query(
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
                     "FROM Post AS p " +
-                    "LEFT JOIN Comment AS c ON p.id = c.post.id " +
-                    "GROUP BY p.id " +
+                    "WHERE p.id < :before " +
                     "ORDER BY p.id DESC"
     )
-    Page<PostItem> findAllPost(Pageable pageable);
+    Slice<PostItem> findAllPostBefore(@Param("before") Long before, Pageable pageable);
 
     @Query(
-            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, COUNT(c.id)) " +
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
                     "FROM Post AS p " +
-                    "LEFT JOIN Comment AS c ON p.id = c.post.id " +
                     "WHERE p.title LIKE %:keyword% " +
-                    "GROUP BY p.id " +
                     "ORDER BY p.id DESC"
     )
     Page<PostItem> findAllPostByTitle(@Param("keyword") String keyword, Pageable pageable);
 
     @Query(
-            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, COUNT(c.id)) " +
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
                     "FROM Post AS p " +
-                    "LEFT JOIN Comment AS c ON p.id = c.post.id " +
                     "WHERE p.writer LIKE %:keyword% " +
-                    "GROUP BY p.id " +
                     "ORDER BY p.id DESC"
     )
     Page<PostItem> findAllPostByWriter(@Param("keyword") String keyword, Pageable pageable);
 
+    @Query(
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
+                    "FROM Post AS p " +
+                    "WHERE p.content LIKE %:keyword% " +
+                    "ORDER BY p.id DESC"
+    )
+    Page<PostItem> findAllPostByContent(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
+                    "FROM Post AS p " +
+                    "WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% OR p.writer LIKE %:keyword% " +
+                    "ORDER BY p.id DESC"
+    )
+    Page<PostItem> findAllPostByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(
+            value = "SELECT new com.backend.domain.post.dto.PostItem(p.id, p.title, p.writer, p.createdAt, p.commentCount, p.viewCount) " +
+                    "FROM Post AS p " +
+                    "WHERE p.id IN :postIds " +
+                    "ORDER BY p.id DESC"
+    )
+    List<PostItem> findAllPostByIdIn(@Param("postIds") List<Long> postIds);
+
+    List<Post> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query(value = "SELECT * FROM post WHERE updated_at >= :since AND post_id > :lastId ORDER BY post_id LIMIT :size", nativeQuery = true)
+    List<Post> findAllUpdatedSince(@Param("since") LocalDateTime since,
+                                   @Param("lastId") Long lastId,
+                                   @Param("size") int size);
+
+    @Query(
+            value = "UPDATE Post AS p " +
+                    "SET p.title = :title, p.content = :content, p.updatedAt = :updatedAt " +
+                    "WHERE p.id = :postId AND p.deleted = false " +
+                    "AND p.member.id = (SELECT m.id FROM Member AS m WHERE m.username = :username)"
+    )
+    @Modifying
+    int modifyByIdAndUsername(@Param("postId") Long postId,
+                              @Param("username") String username,
+                              @Param("title") String title,
+                              @Param("content") String content,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(
+            value = "UPDATE Post AS p " +
+                    "SET p.deleted = true, p.updatedAt = :updatedAt " +
+                    "WHERE p.id = :postId AND p.deleted = false " +
+                    "AND p.member.id = (SELECT m.id FROM Member AS m WHERE m.username = :username)"
+    )
+    @Modifying
+    int softDeleteByIdAndUsername(@Param("postId") Long postId,
+                                  @Param("username") String username,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(value = "SELECT post_id FROM post WHERE deleted = true ORDER BY post_id LIMIT :size", nativeQuery = true)
+    List<Long> findDeletedPostIds(@Param("size") int size);
+
+    @Query(value = "SELECT COUNT(*) FROM post WHERE deleted = true", nativeQuery = true)
+    long countDeletedPost();
+
+    @Query(value = "DELETE FROM post WHERE post_id = :postId AND deleted = true", nativeQuery = true)
+    @Modifying
+    int purgeById(@Param("postId") Long postId);
+
+    @Query("UPDATE Post AS p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId AND p.deleted = false")
+    @Modifying
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Query("UPDATE Post AS p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    @Modifying
+    void decreaseCommentCount(@Param("postId") Long postId);
+
+    @Query("UPDATE Post AS p SET p.viewCount = p.viewCount + :viewCount WHERE p.id = :postId")
+    @Modifying
+    void increaseViewCount(@Param("postId") Long postId, @Param("viewCount") long viewCount);
+
+    @Query("SELECT p.commentCount FROM Post AS p WHERE p.id = :postId")
+    Optional<Long> findCommentCountById(@Param("postId") Long postId);
+
+    @Query("SELECT MAX(p.id) FROM Post AS p")
+    Long findMaxId();
+
+    @Query(
+            value = "UPDATE Post AS p " +
+                    "SET p.commentCount = (SELECT COUNT(c.id) FROM Comment AS c WHERE c.post.id = p.id) " +
+                    "WHERE p.id > :fromId AND p.id <= :toId " +
+                    "AND p.commentCount <> (SELECT COUNT(c.id) FROM Comment AS c WHERE c.post.id = p.id)"
+    )
+    @Modifying
+    int repairCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
 }
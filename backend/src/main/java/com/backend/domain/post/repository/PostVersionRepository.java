@@ -0,0 +1,77 @@
+package com.backend.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class PostVersionRepository {
+
+    private static final String LIST_KEY = "post:version:list";
+    private static final String COMMENT_KEY_PREFIX = "post:version:comments:";
+    private static final String DETAIL_KEY_PREFIX = "post:version:detail:";
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local version = tonumber(ARGV[1])
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if version <= current then
+                version = current + 1
+            end
+            redis.call('SET', KEYS[1], version, 'PX', ARGV[2])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long findListVersion() {
+        return find(LIST_KEY);
+    }
+
+    public long findCommentVersion(Long postId) {
+        return find(COMMENT_KEY_PREFIX + postId);
+    }
+
+    public long findDetailVersion(Long postId) {
+        return find(DETAIL_KEY_PREFIX + postId);
+    }
+
+    public Optional<Long> findDetailVersionIfPresent(Long postId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + postId))
+                .map(Long::parseLong);
+    }
+
+    public long bumpListVersion() {
+        return bump(LIST_KEY);
+    }
+
+    public long bumpCommentVersion(Long postId) {
+        return bump(COMMENT_KEY_PREFIX + postId);
+    }
+
+    public long bumpDetailVersion(Long postId) {
+        return bump(DETAIL_KEY_PREFIX + postId);
+    }
+
+    private long find(String key) {
+        String version = stringRedisTemplate.opsForValue().get(key);
+        if (version == null) {
+            return bump(key);
+        }
+        return Long.parseLong(version);
+    }
+
+    private long bump(String key) {
+        Long version = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(key),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(VERSION_TTL.toMillis()));
+        return version == null ? System.currentTimeMillis() : version;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.backend.domain.post.repository;
+
+import com.backend.domain.post.entity.PostViewFlush;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostViewFlushRepository extends JpaRepository<PostViewFlush, String> {
+
+    @Query(value = "INSERT INTO post_view_flush (batch_id, generation) VALUES (:batchId, :generation)", nativeQuery = true)
+    @Modifying
+    void insert(@Param("batchId") String batchId, @Param("generation") String generation);
+
+    @Query("DELETE FROM PostViewFlush AS f WHERE f.generation = :generation")
+    @Modifying
+    void deleteAllByGeneration(@Param("generation") String generation);
+
+}
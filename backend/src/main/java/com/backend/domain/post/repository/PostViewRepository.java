@@ -0,0 +1,119 @@
+package com.backend.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class PostViewRepository {
+
+    private static final String DELTA_KEY = "post:view:delta";
+    private static final String FLUSH_KEY = "post:view:flush";
+    private static final String FLUSH_GENERATION_KEY = "post:view:flush:generation";
+    private static final String FLUSH_LOCK_KEY = "post:view:flush:lock";
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            local delta = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            local flushing = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            return delta + flushing
+            """, Long.class);
+    private static final RedisScript<String> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return false
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('SET', KEYS[3], ARGV[1])
+            end
+            local generation = redis.call('GET', KEYS[3])
+            if not generation then
+                redis.call('SET', KEYS[3], ARGV[1])
+                generation = ARGV[1]
+            end
+            return generation
+            """, String.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long increase(Long postId) {
+        Long pendingViewCount = stringRedisTemplate.execute(INCREASE_SCRIPT, List.of(DELTA_KEY, FLUSH_KEY), String.valueOf(postId));
+        return pendingViewCount == null ? 0 : pendingViewCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> findPendingViewCounts(Collection<Long> postIds) {
+        String[] fields = postIds.stream()
+                .map(String::valueOf)
+                .toArray(String[]::new);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            stringRedisConnection.hMGet(DELTA_KEY, fields);
+            stringRedisConnection.hMGet(FLUSH_KEY, fields);
+            return null;
+        });
+        List<Object> deltas = (List<Object>) results.get(0);
+        List<Object> flushing = (List<Object>) results.get(1);
+        Map<Long, Long> pendingViewCounts = new HashMap<>();
+        int index = 0;
+        for (Long postId : postIds) {
+            pendingViewCounts.put(postId, toLong(deltas.get(index)) + toLong(flushing.get(index)));
+            index++;
+        }
+        return pendingViewCounts;
+    }
+
+    public Optional<String> lockFlush(Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, timeout))) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    public void unlockFlush(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    }
+
+    public Optional<String> prepareFlush() {
+        return Optional.ofNullable(stringRedisTemplate.execute(PREPARE_FLUSH_SCRIPT,
+                List.of(DELTA_KEY, FLUSH_KEY, FLUSH_GENERATION_KEY), UUID.randomUUID().toString()));
+    }
+
+    public Map<Long, Long> findFlushingViewCounts() {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        stringRedisTemplate.opsForHash().entries(FLUSH_KEY)
+                .forEach((postId, viewCount) -> viewCounts.put(Long.valueOf((String) postId), toLong(viewCount)));
+        return viewCounts;
+    }
+
+    public void completeFlush(Collection<Long> postIds) {
+        Object[] fields = postIds.stream()
+                .map(String::valueOf)
+                .toArray();
+        stringRedisTemplate.opsForHash().delete(FLUSH_KEY, fields);
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong((String) value);
+    }
+
+}
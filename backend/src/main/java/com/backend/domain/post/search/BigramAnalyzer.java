@@ -0,0 +1,21 @@
+package com.backend.domain.post.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+
+public class BigramAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new NGramTokenizer(2, 2) {
+            @Override
+            protected boolean isTokenChar(int chr) {
+                return !Character.isWhitespace(chr);
+            }
+        };
+        return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+    }
+
+}
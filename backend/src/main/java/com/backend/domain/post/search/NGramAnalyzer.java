@@ -0,0 +1,28 @@
+package com.backend.domain.post.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+
+public class NGramAnalyzer extends Analyzer {
+
+    private final int minGram;
+    private final int maxGram;
+
+    public NGramAnalyzer(int minGram, int maxGram) {
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new WhitespaceTokenizer();
+        TokenStream tokenStream = new LowerCaseFilter(tokenizer);
+        tokenStream = new NGramTokenFilter(tokenStream, minGram, maxGram, false);
+        return new TokenStreamComponents(tokenizer, tokenStream);
+    }
+
+}
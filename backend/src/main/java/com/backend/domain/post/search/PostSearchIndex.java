@@ -0,0 +1,284 @@
+package com.backend.domain.post.search;
+
+import com.backend.domain.post.entity.Post;
+
+import jakarta.annotation.PreDestroy;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PostSearchIndex {
+
+    public static final String ID = "id";
+    public static final String TITLE = "title";
+    public static final String WRITER = "writer";
+    public static final String CONTENT = "content";
+
+    private static final String SORT_ID = "sortId";
+    private static final Sort SORT = new Sort(new SortField(SORT_ID, SortField.Type.LONG, true));
+    private static final String BIGRAM_SUFFIX = "_bigram";
+    private static final String SCHEMA = "schema";
+    private static final String SCHEMA_VERSION = "2";
+    private static final String WATERMARK = "watermark";
+
+    private final Analyzer bigramAnalyzer = new BigramAnalyzer();
+    private final Analyzer unigramAnalyzer = new NGramAnalyzer(1, 1);
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final AtomicLong watermark;
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostSearchProperties properties) throws IOException {
+        this.directory = StringUtils.hasText(properties.getIndexPath())
+                ? FSDirectory.open(Path.of(properties.getIndexPath()))
+                : new ByteBuffersDirectory();
+        Analyzer indexAnalyzer = new PerFieldAnalyzerWrapper(unigramAnalyzer, Map.of(
+                TITLE + BIGRAM_SUFFIX, bigramAnalyzer,
+                WRITER + BIGRAM_SUFFIX, bigramAnalyzer,
+                CONTENT + BIGRAM_SUFFIX, bigramAnalyzer));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        this.watermark = new AtomicLong(Long.parseLong(commitData.getOrDefault(WATERMARK, "0")));
+        this.ready = indexWriter.getDocStats().numDocs > 0 && SCHEMA_VERSION.equals(commitData.get(SCHEMA));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getWatermark() {
+        return watermark.get();
+    }
+
+    public long countDocuments() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    public void index(Post post) {
+        try {
+            indexWriter.updateDocument(new Term(ID, String.valueOf(post.getId())), createDocument(post));
+            updateWatermark(post);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            indexWriter.deleteDocuments(new Term(ID, String.valueOf(postId)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Page<Long> search(PostSearchType searchType, String keyword, Pageable pageable) {
+        Query query = createQuery(searchType, keyword);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int totalHits = searcher.count(query);
+                int offset = (int) pageable.getOffset();
+                if (totalHits <= offset) {
+                    return new PageImpl<>(List.of(), pageable, totalHits);
+                }
+                TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize(), SORT);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> postIds = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    postIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID)));
+                }
+                return new PageImpl<>(postIds, pageable, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void beginRebuild() {
+        ready = false;
+        watermark.set(0);
+        try {
+            indexWriter.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void rebuild(List<Post> posts) {
+        try {
+            for (Post post : posts) {
+                indexWriter.updateDocument(new Term(ID, String.valueOf(post.getId())), createDocument(post));
+                updateWatermark(post);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void completeRebuild() {
+        try {
+            commitWithWatermark();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.commit-interval:5000}")
+    public void commit() {
+        if (!indexWriter.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            commitWithWatermark();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void commitWithWatermark() throws IOException {
+        indexWriter.setLiveCommitData(Map.of(
+                SCHEMA, SCHEMA_VERSION,
+                WATERMARK, String.valueOf(watermark.get())).entrySet());
+        indexWriter.commit();
+    }
+
+    private void updateWatermark(Post post) {
+        if (post.getUpdatedAt() != null) {
+            long updatedAt = post.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            watermark.accumulateAndGet(updatedAt, Math::max);
+        }
+    }
+
+    private Document createDocument(Post post) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(post.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(SORT_ID, post.getId()));
+        addTextField(document, TITLE, post.getTitle());
+        addTextField(document, WRITER, post.getWriter());
+        addTextField(document, CONTENT, post.getContent());
+        return document;
+    }
+
+    private void addTextField(Document document, String field, String value) {
+        document.add(new TextField(field, value, Field.Store.NO));
+        document.add(new TextField(field + BIGRAM_SUFFIX, value, Field.Store.NO));
+    }
+
+    private Query createQuery(PostSearchType searchType, String keyword) {
+        List<String> bigrams = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        analyze(bigramAnalyzer, keyword, bigrams, positions);
+        if (bigrams.isEmpty()) {
+            return createUnigramQuery(searchType, keyword);
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String field : searchType.getFields()) {
+            PhraseQuery.Builder phraseQuery = new PhraseQuery.Builder();
+            for (int i = 0; i < bigrams.size(); i++) {
+                phraseQuery.add(new Term(field + BIGRAM_SUFFIX, bigrams.get(i)), positions.get(i));
+            }
+            query.add(phraseQuery.build(), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private Query createUnigramQuery(PostSearchType searchType, String keyword) {
+        List<String> unigrams = new ArrayList<>();
+        analyze(unigramAnalyzer, keyword, unigrams, new ArrayList<>());
+        if (unigrams.isEmpty()) {
+            return new MatchNoDocsQuery();
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String field : searchType.getFields()) {
+            BooleanQuery.Builder fieldQuery = new BooleanQuery.Builder();
+            for (String unigram : unigrams) {
+                fieldQuery.add(new TermQuery(new Term(field, unigram)), BooleanClause.Occur.FILTER);
+            }
+            query.add(fieldQuery.build(), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private void analyze(Analyzer analyzer, String keyword, List<String> terms, List<Integer> positions) {
+        try (TokenStream tokenStream = analyzer.tokenStream(CONTENT, keyword)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            PositionIncrementAttribute positionAttribute = tokenStream.addAttribute(PositionIncrementAttribute.class);
+            int position = -1;
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                position += positionAttribute.getPositionIncrement();
+                terms.add(termAttribute.toString());
+                positions.add(position);
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
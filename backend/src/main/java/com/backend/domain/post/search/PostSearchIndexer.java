@@ -0,0 +1,177 @@
+package com.backend.domain.post.search;
+
+import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+import com.backend.domain.post.repository.PostRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PostSearchIndexer implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-search-index";
+    private static final ChannelTopic INDEX_TOPIC = new ChannelTopic("post:search:index");
+    private static final String INDEX = "index";
+    private static final String DELETE = "delete";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public PostSearchIndexer(PostRepository postRepository,
+                             PostSearchIndex postSearchIndex,
+                             PostSearchProperties properties,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                handleMessage(new String(message.getBody(), StandardCharsets.UTF_8)), INDEX_TOPIC);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION) || !postSearchIndex.isReady()) {
+            rebuild();
+            return;
+        }
+        catchUp();
+    }
+
+    @TransactionalEventListener
+    public void handlePostWrite(PostWriteEvent event) {
+        index(List.of(event.getPostId()));
+        publish(INDEX, List.of(event.getPostId()));
+    }
+
+    @TransactionalEventListener
+    public void handlePostImport(PostImportEvent event) {
+        index(event.getPostIds());
+        publish(INDEX, event.getPostIds());
+    }
+
+    @TransactionalEventListener
+    public void handlePostModify(PostModifyEvent event) {
+        index(List.of(event.getPostId()));
+        publish(INDEX, List.of(event.getPostId()));
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        postSearchIndex.delete(event.getPostId());
+        publish(DELETE, List.of(event.getPostId()));
+    }
+
+    public void rebuild() {
+        postSearchIndex.beginRebuild();
+        long lastPostId = 0;
+        long indexed = 0;
+        List<Post> posts;
+        do {
+            posts = postRepository.findAllByIdGreaterThanOrderByIdAsc(lastPostId, PageRequest.of(0, properties.getRebuildBatchSize()));
+            postSearchIndex.rebuild(posts);
+            if (!posts.isEmpty()) {
+                lastPostId = posts.get(posts.size() - 1).getId();
+                indexed += posts.size();
+            }
+        } while (posts.size() == properties.getRebuildBatchSize());
+        postSearchIndex.completeRebuild();
+        log.info("게시글 {}건으로 검색 색인을 재구성했습니다.", indexed);
+    }
+
+    public void catchUp() {
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(postSearchIndex.getWatermark()), ZoneId.systemDefault())
+                .minus(properties.getCatchUpMargin());
+        long lastPostId = 0;
+        long applied = 0;
+        List<Post> posts;
+        do {
+            posts = postRepository.findAllUpdatedSince(since, lastPostId, properties.getRebuildBatchSize());
+            for (Post post : posts) {
+                if (post.isDeleted()) {
+                    postSearchIndex.delete(post.getId());
+                } else {
+                    postSearchIndex.index(post);
+                }
+            }
+            if (!posts.isEmpty()) {
+                lastPostId = posts.get(posts.size() - 1).getId();
+                applied += posts.size();
+            }
+        } while (posts.size() == properties.getRebuildBatchSize());
+        postSearchIndex.commit();
+        long postCount = postRepository.count();
+        if (postSearchIndex.countDocuments() != postCount) {
+            log.warn("검색 색인 문서 수({})가 게시글 수({})와 달라 색인을 재구성합니다.", postSearchIndex.countDocuments(), postCount);
+            rebuild();
+            return;
+        }
+        log.info("{} 이후 변경된 게시글 {}건을 검색 색인에 반영했습니다.", since, applied);
+    }
+
+    private void index(List<Long> postIds) {
+        List<Post> posts = postRepository.findAllById(postIds);
+        posts.forEach(postSearchIndex::index);
+        Set<Long> indexedIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toSet());
+        postIds.stream()
+                .filter(postId -> !indexedIds.contains(postId))
+                .forEach(postSearchIndex::delete);
+    }
+
+    private void publish(String operation, List<Long> postIds) {
+        String ids = postIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        try {
+            stringRedisTemplate.convertAndSend(INDEX_TOPIC.getTopic(), nodeId + ":" + operation + ":" + ids);
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 검색 색인 변경 메시지 발행에 실패했습니다.", ids, e);
+        }
+    }
+
+    private void handleMessage(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0]) || parts[2].isEmpty()) {
+            return;
+        }
+        List<Long> postIds = Arrays.stream(parts[2].split(","))
+                .map(Long::valueOf)
+                .toList();
+        if (DELETE.equals(parts[1])) {
+            postIds.forEach(postSearchIndex::delete);
+            return;
+        }
+        index(postIds);
+    }
+
+}
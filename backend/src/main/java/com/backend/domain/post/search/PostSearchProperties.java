@@ -0,0 +1,26 @@
+package com.backend.domain.post.search;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.search")
+@Getter
+public class PostSearchProperties {
+
+    private final String indexPath;
+    private final int rebuildBatchSize;
+    private final Duration catchUpMargin;
+
+    public PostSearchProperties(@DefaultValue("data/search-index") String indexPath,
+                                @DefaultValue("500") int rebuildBatchSize,
+                                @DefaultValue("5m") Duration catchUpMargin) {
+        this.indexPath = indexPath;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.catchUpMargin = catchUpMargin;
+    }
+
+}
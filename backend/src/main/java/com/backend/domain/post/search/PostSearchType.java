@@ -0,0 +1,31 @@
+package com.backend.domain.post.search;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Getter
+public enum PostSearchType {
+
+    TITLE("title", List.of(PostSearchIndex.TITLE)),
+    WRITER("writer", List.of(PostSearchIndex.WRITER)),
+    CONTENT("content", List.of(PostSearchIndex.CONTENT)),
+    ALL("all", List.of(PostSearchIndex.TITLE, PostSearchIndex.CONTENT, PostSearchIndex.WRITER));
+
+    private final String type;
+    private final List<String> fields;
+
+    PostSearchType(String type, List<String> fields) {
+        this.type = type;
+        this.fields = fields;
+    }
+
+    public static Optional<PostSearchType> find(String type) {
+        return Arrays.stream(values())
+                .filter(searchType -> searchType.type.equals(type))
+                .findFirst();
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.post.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.comment-count-repair")
+@Getter
+public class CommentCountRepairProperties {
+
+    private final int batchSize;
+
+    public CommentCountRepairProperties(@DefaultValue("1000") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.post.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCountRepairService {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentCountRepairProperties properties;
+
+    @Scheduled(cron = "${board.comment-count-repair.cron:0 0 4 * * *}")
+    public void repair() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        int batchSize = properties.getBatchSize();
+        long repaired = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            long toId = fromId + batchSize;
+            long batchFromId = fromId;
+            Integer updated = transactionTemplate.execute(status -> postRepository.repairCommentCount(batchFromId, toId));
+            repaired += updated == null ? 0 : updated;
+        }
+        if (repaired > 0) {
+            log.info("게시글 {}건의 댓글 개수를 보정했습니다.", repaired);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.backend.domain.post.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.popular-post")
+@Getter
+public class PopularPostProperties {
+
+    private final int size;
+    private final double viewScore;
+    private final double commentScore;
+    private final double hourlyDecay;
+    private final double dailyDecay;
+    private final Duration rankTtl;
+
+    public PopularPostProperties(@DefaultValue("10") int size,
+                                 @DefaultValue("1") double viewScore,
+                                 @DefaultValue("5") double commentScore,
+                                 @DefaultValue("0.9") double hourlyDecay,
+                                 @DefaultValue("0.7") double dailyDecay,
+                                 @DefaultValue("1m") Duration rankTtl) {
+        this.size = size;
+        this.viewScore = viewScore;
+        this.commentScore = commentScore;
+        this.hourlyDecay = hourlyDecay;
+        this.dailyDecay = dailyDecay;
+        this.rankTtl = rankTtl;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.dto.PostItem;
+import com.backend.domain.post.dto.PostPopularResponse;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostViewEvent;
+import com.backend.domain.post.repository.PopularPostRepository;
+import com.backend.domain.post.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularPostService {
+
+    private final PostRepository postRepository;
+    private final PopularPostRepository popularPostRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostViewService postViewService;
+    private final PopularPostProperties properties;
+    private final Map<PopularWindow, List<Long>> lastTopPostIds = new ConcurrentHashMap<>();
+
+    public PostPopularResponse popularPosts(String window) {
+        PopularWindow popularWindow = PopularWindow.of(window);
+        List<Long> postIds = findTopPostIds(popularWindow);
+        List<PostItem> posts = postViewService.mergeViewCount(findPosts(postIds));
+        return new PostPopularResponse(popularWindow.getWindow(), posts);
+    }
+
+    @EventListener
+    public void handlePostView(PostViewEvent event) {
+        increase(event.getPostId(), properties.getViewScore());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentWrite(CommentWriteEvent event) {
+        increase(event.getPostId(), properties.getCommentScore());
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        List<String> windows = Arrays.stream(PopularWindow.values())
+                .map(PopularWindow::getWindow)
+                .toList();
+        try {
+            popularPostRepository.remove(event.getPostId(), PopularWindow.retainedBuckets(LocalDateTime.now()), windows);
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 인기 점수 삭제에 실패했습니다.", event.getPostId(), e);
+        }
+    }
+
+    private List<Long> findTopPostIds(PopularWindow popularWindow) {
+        Map<String, Double> buckets = popularWindow.buckets(LocalDateTime.now(), properties.getHourlyDecay(), properties.getDailyDecay());
+        try {
+            List<Long> postIds = popularPostRepository.findTopPostIds(popularWindow.getWindow(), buckets, properties.getSize(), properties.getRankTtl());
+            lastTopPostIds.put(popularWindow, postIds);
+            return postIds;
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 {} 순위 조회에 실패했습니다.", popularWindow.getWindow(), e);
+            return lastTopPostIds.getOrDefault(popularWindow, List.of());
+        }
+    }
+
+    private List<PostItem> findPosts(List<Long> postIds) {
+        Map<Long, PostItem> postItems = new HashMap<>();
+        List<Long> missPostIds = new ArrayList<>();
+        for (Long postId : postIds) {
+            postDetailCache.getIfPresentLocal(postId).ifPresentOrElse(
+                    postDetailResponse -> postItems.put(postId, new PostItem(postDetailResponse)),
+                    () -> missPostIds.add(postId)
+            );
+        }
+        if (!missPostIds.isEmpty()) {
+            postRepository.findAllById(missPostIds)
+                    .forEach(post -> postItems.put(post.getId(), new PostItem(post)));
+        }
+        return postIds.stream()
+                .map(postItems::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void increase(Long postId, double score) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            popularPostRepository.increase(postId, score, PopularWindow.hourBucket(now), PopularWindow.dayBucket(now));
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 인기 점수 반영에 실패했습니다.", postId, e);
+        }
+    }
+
+}
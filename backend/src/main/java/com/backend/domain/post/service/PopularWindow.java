@@ -0,0 +1,78 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.post.exception.InvalidPopularWindowException;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public enum PopularWindow {
+
+    ONE_HOUR("1h"),
+    ONE_DAY("24h"),
+    ONE_WEEK("7d");
+
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String window;
+
+    PopularWindow(String window) {
+        this.window = window;
+    }
+
+    public static PopularWindow of(String window) {
+        return Arrays.stream(values())
+                .filter(popularWindow -> popularWindow.window.equals(window))
+                .findFirst()
+                .orElseThrow(InvalidPopularWindowException::new);
+    }
+
+    public static String hourBucket(LocalDateTime dateTime) {
+        return "hour:" + dateTime.format(HOUR_FORMATTER);
+    }
+
+    public static String dayBucket(LocalDateTime dateTime) {
+        return "day:" + dateTime.format(DAY_FORMATTER);
+    }
+
+    public static List<String> retainedBuckets(LocalDateTime now) {
+        List<String> buckets = new ArrayList<>();
+        for (int age = 0; age <= 25; age++) {
+            buckets.add(hourBucket(now.minusHours(age)));
+        }
+        for (int age = 0; age <= 8; age++) {
+            buckets.add(dayBucket(now.minusDays(age)));
+        }
+        return buckets;
+    }
+
+    public Map<String, Double> buckets(LocalDateTime now, double hourlyDecay, double dailyDecay) {
+        Map<String, Double> buckets = new LinkedHashMap<>();
+        switch (this) {
+            case ONE_HOUR -> {
+                buckets.put(hourBucket(now), 1.0);
+                buckets.put(hourBucket(now.minusHours(1)), (60 - now.getMinute()) / 60.0);
+            }
+            case ONE_DAY -> {
+                for (int age = 0; age <= 24; age++) {
+                    buckets.put(hourBucket(now.minusHours(age)), Math.pow(hourlyDecay, age));
+                }
+            }
+            case ONE_WEEK -> {
+                for (int age = 0; age <= 7; age++) {
+                    buckets.put(dayBucket(now.minusDays(age)), Math.pow(dailyDecay, age));
+                }
+            }
+        }
+        return buckets;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.post.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "board.post-purge")
+@Getter
+public class PostPurgeProperties {
+
+    private final int chunkSize;
+    private final int postBatchSize;
+    private final int maxChunksPerRun;
+
+    public PostPurgeProperties(@DefaultValue("500") int chunkSize,
+                               @DefaultValue("10") int postBatchSize,
+                               @DefaultValue("100") int maxChunksPerRun) {
+        this.chunkSize = chunkSize;
+        this.postBatchSize = postBatchSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+}
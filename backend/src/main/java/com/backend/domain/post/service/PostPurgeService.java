@@ -0,0 +1,90 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.post.repository.PostRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class PostPurgeService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostPurgeProperties properties;
+    private final Counter purgedPosts;
+    private final Counter purgedComments;
+    private final AtomicLong pendingPosts = new AtomicLong();
+
+    public PostPurgeService(PostRepository postRepository,
+                            CommentRepository commentRepository,
+                            TransactionTemplate transactionTemplate,
+                            PostPurgeProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purgedPosts = meterRegistry.counter("board.post.purge.posts");
+        this.purgedComments = meterRegistry.counter("board.post.purge.comments");
+        Gauge.builder("board.post.purge.pending", pendingPosts, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.post-purge.interval:10000}")
+    public void purge() {
+        pendingPosts.set(postRepository.countDeletedPost());
+        List<Long> postIds = postRepository.findDeletedPostIds(properties.getPostBatchSize());
+        int chunks = 0;
+        for (Long postId : postIds) {
+            boolean purged = false;
+            try {
+                while (!purged && chunks < properties.getMaxChunksPerRun()) {
+                    purged = purgeChunk(postId);
+                    chunks++;
+                }
+            } catch (DataAccessException e) {
+                log.warn("삭제된 게시글 {}의 정리에 실패했습니다.", postId, e);
+            }
+            if (purged) {
+                pendingPosts.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean purgeChunk(Long postId) {
+        int chunkSize = properties.getChunkSize();
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> commentIds = commentRepository.findIdsByPostId(postId, PageRequest.of(0, chunkSize));
+            if (!commentIds.isEmpty()) {
+                commentRepository.deleteAllByIdInBatch(commentIds);
+            }
+            if (commentIds.size() < chunkSize) {
+                postRepository.purgeById(postId);
+            }
+            return commentIds.size();
+        });
+        int deletedComments = deleted == null ? 0 : deleted;
+        purgedComments.increment(deletedComments);
+        if (deletedComments < chunkSize) {
+            purgedPosts.increment();
+            return true;
+        }
+        return false;
+    }
+
+}
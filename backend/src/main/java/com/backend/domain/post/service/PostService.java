@@ -1,101 +1,156 @@
 package com.backend.domain.post.service;
 
-import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.exception.NotFoundMemberException;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.cache.PostListCache;
+import com.backend.domain.post.count.CountService;
+import com.backend.domain.post.dto.PostCursorResponse;
 import com.backend.domain.post.dto.PostDetailResponse;
 import com.backend.domain.post.dto.PostItem;
 import com.backend.domain.post.dto.PostListResponse;
 import com.backend.domain.post.dto.PostModifyRequest;
 import com.backend.domain.post.dto.PostWriteRequest;
 import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostViewEvent;
+import com.backend.domain.post.event.PostWriteEvent;
 import com.backend.domain.post.exception.AccessDeniedDeletePostException;
 import com.backend.domain.post.exception.AccessDeniedModifyPostException;
 import com.backend.domain.post.exception.NotFoundPostException;
 import com.backend.domain.post.repository.PostRepository;
+import com.backend.domain.post.search.PostSearchIndex;
+import com.backend.domain.post.search.PostSearchType;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
+    private final CountService countService;
+    private final PostListCache postListCache;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewService postViewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void postWrite(PostWriteRequest postWriteRequest, String username) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(NotFoundMemberException::new);
+    public void postWrite(PostWriteRequest postWriteRequest, LoginMember loginMember) {
+        Member member = memberRepository.getReferenceById(loginMember.getMemberId());
         Post post = Post.builder()
                 .title(postWriteRequest.getTitle())
-                .writer(member.getNickname())
+                .writer(loginMember.getNickname())
                 .content(postWriteRequest.getContent())
                 .member(member)
                 .build();
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostWriteEvent(post.getId()));
     }
 
-    @Transactional(readOnly = true)
     public PostDetailResponse postDetail(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(NotFoundPostException::new);
-        return new PostDetailResponse(post);
+        PostDetailResponse postDetailResponse = postDetailCache.get(postId, () -> {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(NotFoundPostException::new);
+            return new PostDetailResponse(post);
+        });
+        return postDetailResponse.addViewCount(postView(postId));
+    }
+
+    public long postView(Long postId) {
+        eventPublisher.publishEvent(new PostViewEvent(postId));
+        return postViewService.increase(postId);
     }
 
     @Transactional(readOnly = true)
-    public PostListResponse postList(int page) {
+    public PostListResponse postList(int page, long listVersion) {
         page = page <= 0 ? 0 : page - 1;
-        Page<PostItem> postPage = postRepository.findAllPost(PageRequest.of(page, 10));
-        return new PostListResponse(postPage);
+        Pageable pageable = PageRequest.of(page, 10);
+        PostListResponse postListResponse = postListCache.get(page, listVersion, () -> findPostList(pageable));
+        return postListResponse.withPosts(postViewService.mergeViewCount(postListResponse.getPosts()));
+    }
+
+    @Transactional(readOnly = true)
+    public PostCursorResponse postListCursor(Long before) {
+        long cursor = before == null ? Long.MAX_VALUE : before;
+        Slice<PostItem> postSlice = postRepository.findAllPostBefore(cursor, PageRequest.of(0, 10));
+        List<PostItem> posts = postViewService.mergeViewCount(postSlice.getContent());
+        return new PostCursorResponse(new SliceImpl<>(posts, postSlice.getPageable(), postSlice.hasNext()));
     }
 
     @Transactional(readOnly = true)
     public PostListResponse postListSearch(String type, String keyword, int page) {
         page = page <= 0 ? 0 : page - 1;
         Pageable pageable = PageRequest.of(page, 10);
-        Page<PostItem> postPage = Page.empty();
-        if (type.equals("title")) {
-            postPage = postRepository.findAllPostByTitle(keyword, pageable);
-        } else if (type.equals("writer")) {
-            postPage = postRepository.findAllPostByWriter(keyword, pageable);
-        }
-        return new PostListResponse(postPage);
+        Page<PostItem> postPage = PostSearchType.find(type)
+                .map(searchType -> searchPost(searchType, keyword, pageable))
+                .orElse(Page.empty());
+        List<PostItem> posts = postViewService.mergeViewCount(postPage.getContent());
+        return new PostListResponse(new PageImpl<>(posts, postPage.getPageable(), postPage.getTotalElements()));
     }
 
     @Transactional
     public void postModify(Long postId, String loginUsername, PostModifyRequest postModifyRequest) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(NotFoundPostException::new);
-        String postOwner = post.getMember().getUsername();
-        if (isNotOwner(postOwner, loginUsername)) {
+        int modified = postRepository.modifyByIdAndUsername(postId, loginUsername,
+                postModifyRequest.getTitle(), postModifyRequest.getContent(), LocalDateTime.now());
+        if (modified == 0) {
+            validatePostExists(postId);
             throw new AccessDeniedModifyPostException();
         }
-        post.modify(postModifyRequest.getTitle(), postModifyRequest.getContent());
+        eventPublisher.publishEvent(new PostModifyEvent(postId));
     }
 
     @Transactional
     public void postDelete(Long postId, String loginUsername) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(NotFoundPostException::new);
-        String postOwner = post.getMember().getUsername();
-        if (isNotOwner(postOwner, loginUsername)) {
+        int deleted = postRepository.softDeleteByIdAndUsername(postId, loginUsername, LocalDateTime.now());
+        if (deleted == 0) {
+            validatePostExists(postId);
             throw new AccessDeniedDeletePostException();
         }
-        commentRepository.deleteByPostId(postId);
-        postRepository.delete(post);
+        eventPublisher.publishEvent(new PostDeleteEvent(postId));
+    }
+
+    private void validatePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new NotFoundPostException();
+        }
     }
 
-    private boolean isNotOwner(String postOwner, String loginUsername) {
-        return !postOwner.equals(loginUsername);
+    private PostListResponse findPostList(Pageable pageable) {
+        List<PostItem> posts = postRepository.findAllPost(pageable);
+        Page<PostItem> postPage = new PageImpl<>(posts, pageable, countService.postCount());
+        return new PostListResponse(postPage);
+    }
+
+    private Page<PostItem> searchPost(PostSearchType searchType, String keyword, Pageable pageable) {
+        if (postSearchIndex.isReady()) {
+            Page<Long> postIdPage = postSearchIndex.search(searchType, keyword, pageable);
+            List<PostItem> posts = postIdPage.isEmpty() ? List.of() : postRepository.findAllPostByIdIn(postIdPage.getContent());
+            return new PageImpl<>(posts, pageable, postIdPage.getTotalElements());
+        }
+        return switch (searchType) {
+            case TITLE -> postRepository.findAllPostByTitle(keyword, pageable);
+            case WRITER -> postRepository.findAllPostByWriter(keyword, pageable);
+            case CONTENT -> postRepository.findAllPostByContent(keyword, pageable);
+            case ALL -> postRepository.findAllPostByKeyword(keyword, pageable);
+        };
     }
 
 }
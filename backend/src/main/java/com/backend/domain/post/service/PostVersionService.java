@@ -0,0 +1,149 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.event.CommentDeleteEvent;
+import com.backend.domain.comment.event.CommentModifyEvent;
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+import com.backend.domain.post.repository.PostVersionRepository;
+import com.backend.global.common.web.ResourceVersion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostVersionService {
+
+    private final PostVersionRepository postVersionRepository;
+
+    /**
+     * 조건부 요청 검사용으로 이미 발급된 상세 버전만 조회한다. 조회수는 버전에 포함하지 않는다.
+     */
+    public Optional<ResourceVersion> findPostDetailVersion(Long postId) {
+        try {
+            return postVersionRepository.findDetailVersionIfPresent(postId)
+                    .map(detailVersion -> detailVersion(postId, detailVersion));
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 상세 버전 조회에 실패했습니다.", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<ResourceVersion> postDetailVersion(Long postId) {
+        return findVersion(() -> postVersionRepository.findDetailVersion(postId))
+                .map(detailVersion -> detailVersion(postId, detailVersion));
+    }
+
+    public Optional<Long> findListVersion() {
+        return findVersion(postVersionRepository::findListVersion);
+    }
+
+    public ResourceVersion postListVersion(int page, long listVersion) {
+        return ResourceVersion.weak("posts-page-" + page + "-" + listVersion, listVersion);
+    }
+
+    public Optional<ResourceVersion> postCursorVersion(Long before) {
+        return findVersion(postVersionRepository::findListVersion)
+                .map(listVersion -> ResourceVersion.weak("posts-before-" + before + "-" + listVersion, listVersion));
+    }
+
+    public Optional<ResourceVersion> commentListVersion(Long postId, int page) {
+        return findVersion(() -> postVersionRepository.findCommentVersion(postId))
+                .map(commentVersion -> ResourceVersion.weak("comments-" + postId + "-page-" + page + "-" + commentVersion, commentVersion));
+    }
+
+    public Optional<ResourceVersion> commentCursorVersion(Long postId, Long after) {
+        return findVersion(() -> postVersionRepository.findCommentVersion(postId))
+                .map(commentVersion -> ResourceVersion.weak("comments-" + postId + "-after-" + after + "-" + commentVersion, commentVersion));
+    }
+
+    public void bumpListVersion() {
+        try {
+            postVersionRepository.bumpListVersion();
+        } catch (DataAccessException e) {
+            log.warn("게시글 목록 버전 갱신에 실패했습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void handlePostWrite(PostWriteEvent event) {
+        bumpListVersion();
+    }
+
+    @TransactionalEventListener
+    public void handlePostImport(PostImportEvent event) {
+        bumpListVersion();
+    }
+
+    @TransactionalEventListener
+    public void handlePostModify(PostModifyEvent event) {
+        bumpListVersion();
+        bumpDetailVersion(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handlePostDelete(PostDeleteEvent event) {
+        bumpListVersion();
+        bumpDetailVersion(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentWrite(CommentWriteEvent event) {
+        bumpListVersion();
+        bumpCommentVersion(event.getPostId());
+        bumpDetailVersion(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentModify(CommentModifyEvent event) {
+        bumpCommentVersion(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handleCommentDelete(CommentDeleteEvent event) {
+        bumpListVersion();
+        bumpCommentVersion(event.getPostId());
+        bumpDetailVersion(event.getPostId());
+    }
+
+    private void bumpCommentVersion(Long postId) {
+        try {
+            postVersionRepository.bumpCommentVersion(postId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 댓글 목록 버전 갱신에 실패했습니다.", postId, e);
+        }
+    }
+
+    private void bumpDetailVersion(Long postId) {
+        try {
+            postVersionRepository.bumpDetailVersion(postId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 상세 버전 갱신에 실패했습니다.", postId, e);
+        }
+    }
+
+    private ResourceVersion detailVersion(Long postId, long detailVersion) {
+        return ResourceVersion.weak("post-" + postId + "-" + detailVersion, detailVersion);
+    }
+
+    private Optional<Long> findVersion(LongSupplier versionLoader) {
+        try {
+            return Optional.of(versionLoader.getAsLong());
+        } catch (DataAccessException e) {
+            log.warn("버전 조회에 실패했습니다.", e);
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.backend.domain.post.service;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.post-view")
+@Getter
+public class PostViewProperties {
+
+    private final int batchSize;
+    private final Duration lockTimeout;
+
+    public PostViewProperties(@DefaultValue("500") int batchSize,
+                              @DefaultValue("5m") Duration lockTimeout) {
+        this.batchSize = batchSize;
+        this.lockTimeout = lockTimeout;
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.dto.PostItem;
+import com.backend.domain.post.repository.PostRepository;
+import com.backend.domain.post.repository.PostViewFlushRepository;
+import com.backend.domain.post.repository.PostViewRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewService {
+
+    private final PostRepository postRepository;
+    private final PostViewRepository postViewRepository;
+    private final PostViewFlushRepository postViewFlushRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostVersionService postVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final PostViewProperties properties;
+
+    public long increase(Long postId) {
+        try {
+            return postViewRepository.increase(postId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 {} 조회수 증가에 실패했습니다.", postId, e);
+            return 0;
+        }
+    }
+
+    public List<PostItem> mergeViewCount(List<PostItem> posts) {
+        if (posts.isEmpty()) {
+            return posts;
+        }
+        try {
+            List<Long> postIds = posts.stream()
+                    .map(PostItem::getPostId)
+                    .toList();
+            Map<Long, Long> pendingViewCounts = postViewRepository.findPendingViewCounts(postIds);
+            return posts.stream()
+                    .map(postItem -> postItem.addViewCount(pendingViewCounts.get(postItem.getPostId())))
+                    .toList();
+        } catch (DataAccessException e) {
+            log.warn("게시글 목록 조회수 병합에 실패했습니다.", e);
+            return posts;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.post-view.flush-interval:10000}")
+    public void flush() {
+        Optional<String> lockToken = postViewRepository.lockFlush(properties.getLockTimeout());
+        if (lockToken.isEmpty()) {
+            return;
+        }
+        try {
+            postViewRepository.prepareFlush().ifPresent(this::flush);
+        } finally {
+            postViewRepository.unlockFlush(lockToken.get());
+        }
+    }
+
+    private void flush(String generation) {
+        List<Map.Entry<Long, Long>> viewCounts = new ArrayList<>(postViewRepository.findFlushingViewCounts().entrySet());
+        viewCounts.sort(Map.Entry.comparingByKey());
+        for (int from = 0; from < viewCounts.size(); from += properties.getBatchSize()) {
+            List<Map.Entry<Long, Long>> batch = viewCounts.subList(from, Math.min(from + properties.getBatchSize(), viewCounts.size()));
+            String batchId = generation + ":" + batch.get(0).getKey();
+            transactionTemplate.executeWithoutResult(status -> {
+                if (postViewFlushRepository.existsById(batchId)) {
+                    return;
+                }
+                postViewFlushRepository.insert(batchId, generation);
+                batch.forEach(viewCount -> postRepository.increaseViewCount(viewCount.getKey(), viewCount.getValue()));
+            });
+            List<Long> postIds = batch.stream()
+                    .map(Map.Entry::getKey)
+                    .toList();
+            postIds.forEach(postDetailCache::evict);
+            postVersionService.bumpListVersion();
+            postViewRepository.completeFlush(postIds);
+        }
+        transactionTemplate.executeWithoutResult(status -> postViewFlushRepository.deleteAllByGeneration(generation));
+        if (!viewCounts.isEmpty()) {
+            log.info("게시글 {}건의 조회수를 반영했습니다.", viewCounts.size());
+        }
+    }
+
+}
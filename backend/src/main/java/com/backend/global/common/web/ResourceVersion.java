@@ -0,0 +1,29 @@
+package com.backend.global.common.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    public static ResourceVersion weak(String tag, long lastModified) {
+        return new ResourceVersion("W/\"" + tag + "\"", lastModified);
+    }
+
+    public static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    public boolean isNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+
+}
@@ -21,6 +21,9 @@ public class ErrorResponse {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Field> errors;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Object progress;
+
     private ErrorResponse(ErrorType errorType) {
         this.status = errorType.getStatus().value();
         this.errorCode = errorType.getErrorCode();
@@ -32,6 +35,11 @@ public class ErrorResponse {
         this.errors = Field.errors(fieldErrors);
     }
 
+    private ErrorResponse(ErrorType errorType, Object progress) {
+        this(errorType);
+        this.progress = progress;
+    }
+
     public static ErrorResponse of(ErrorType errorType) {
         return new ErrorResponse(errorType);
     }
@@ -40,6 +48,10 @@ public class ErrorResponse {
         return new ErrorResponse(errorType, fieldErrors);
     }
 
+    public static ErrorResponse of(ErrorType errorType, Object progress) {
+        return new ErrorResponse(errorType, progress);
+    }
+
     @Getter
     private static class Field {
 
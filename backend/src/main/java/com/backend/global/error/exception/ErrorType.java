@@ -14,11 +14,14 @@ public enum ErrorType {
 
     // 400
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "E400001", "입력값이 잘못 되었습니다."),
+    INVALID_POPULAR_WINDOW(HttpStatus.BAD_REQUEST, "E400002", "인기 게시글 조회 기간이 잘못 되었습니다."),
+    INVALID_IMPORT_DATA(HttpStatus.BAD_REQUEST, "E400003", "가져오기 데이터 형식이 잘못 되었습니다."),
 
     // 401
     BAD_CREDENTIALS(HttpStatus.UNAUTHORIZED, "E401001", "아이디 또는 비밀번호가 잘못 되었습니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "E401002", "토큰이 만료 되었습니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "E401003", "토큰 형식이 잘못 되었습니다."),
+    REUSED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "E401004", "이미 사용된 refresh token입니다. 다시 로그인해 주세요."),
 
     // 403
     ACCESS_DENIED_MODIFY_POST(HttpStatus.FORBIDDEN, "E403001", "다른 사용자의 게시글을 수정 할 수 없습니다."),
@@ -31,10 +34,17 @@ public enum ErrorType {
     NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "E404002", "회원이 존재하지 않습니다."),
     NOT_FOUND_POST(HttpStatus.NOT_FOUND, "E404003", "게시글이 존재하지 않습니다."),
     NOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, "E404004", "댓글이 존재하지 않습니다."),
+    NOT_FOUND_SESSION(HttpStatus.NOT_FOUND, "E404005", "로그인 기기가 존재하지 않습니다."),
 
     // 409
     DUPLICATE_NICKNAME(HttpStatus.CONFLICT, "E409001", "사용 중인 닉네임입니다."),
-    DUPLICATE_USERNAME(HttpStatus.CONFLICT, "E409002", "사용 중인 아이디입니다.");
+    DUPLICATE_USERNAME(HttpStatus.CONFLICT, "E409002", "사용 중인 아이디입니다."),
+
+    // 429
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E429001", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 503
+    LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "E503001", "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus status;
     private final String errorCode;
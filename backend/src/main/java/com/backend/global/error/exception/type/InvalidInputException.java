@@ -0,0 +1,12 @@
+package com.backend.global.error.exception.type;
+
+import com.backend.global.error.exception.BoardException;
+import com.backend.global.error.exception.ErrorType;
+
+public class InvalidInputException extends BoardException {
+
+    public InvalidInputException(ErrorType errorType) {
+        super(errorType);
+    }
+
+}
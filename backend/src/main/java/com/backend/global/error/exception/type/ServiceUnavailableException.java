@@ -0,0 +1,18 @@
+package com.backend.global.error.exception.type;
+
+import com.backend.global.error.exception.BoardException;
+import com.backend.global.error.exception.ErrorType;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends BoardException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(ErrorType errorType, long retryAfterSeconds) {
+        super(errorType);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
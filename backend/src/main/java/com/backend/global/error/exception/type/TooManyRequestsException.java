@@ -0,0 +1,18 @@
+package com.backend.global.error.exception.type;
+
+import com.backend.global.error.exception.BoardException;
+import com.backend.global.error.exception.ErrorType;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends BoardException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorType errorType, long retryAfterSeconds) {
+        super(errorType);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
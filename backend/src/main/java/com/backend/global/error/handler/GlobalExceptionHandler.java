@@ -1,9 +1,13 @@
 package com.backend.global.error.handler;
 
+import com.backend.domain.admin.exception.InvalidImportDataException;
 import com.backend.global.error.dto.ErrorResponse;
 import com.backend.global.error.exception.BoardException;
 import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.ServiceUnavailableException;
+import com.backend.global.error.exception.type.TooManyRequestsException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -21,6 +25,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(errorType.getStatus()).body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ErrorType errorType = ex.getErrorType();
+        ErrorResponse errorResponse = ErrorResponse.of(errorType);
+        return ResponseEntity.status(errorType.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        ErrorType errorType = ex.getErrorType();
+        ErrorResponse errorResponse = ErrorResponse.of(errorType);
+        return ResponseEntity.status(errorType.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidImportDataException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportDataException(InvalidImportDataException ex) {
+        ErrorType errorType = ex.getErrorType();
+        ErrorResponse errorResponse = ErrorResponse.of(errorType, ex.getProgress());
+        return ResponseEntity.status(errorType.getStatus()).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         ErrorResponse errorResponse = ErrorResponse.of(ErrorType.INVALID_INPUT, ex.getFieldErrors());
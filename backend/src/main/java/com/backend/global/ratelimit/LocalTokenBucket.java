@@ -0,0 +1,30 @@
+package com.backend.global.ratelimit;
+
+import java.time.Duration;
+
+class LocalTokenBucket {
+
+    private final int capacity;
+    private final long periodNanos;
+    private double tokens;
+    private long refilledAt;
+
+    LocalTokenBucket(int capacity, Duration period) {
+        this.capacity = capacity;
+        this.periodNanos = period.toNanos();
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - refilledAt) * capacity / periodNanos);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * periodNanos / capacity / 1_000_000);
+    }
+
+}
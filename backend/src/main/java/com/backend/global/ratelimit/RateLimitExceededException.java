@@ -0,0 +1,16 @@
+package com.backend.global.ratelimit;
+
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.error.exception.type.TooManyRequestsException;
+
+public class RateLimitExceededException extends TooManyRequestsException {
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super(ErrorType.TOO_MANY_REQUESTS, toSeconds(retryAfterMillis));
+    }
+
+    public static long toSeconds(long retryAfterMillis) {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+}
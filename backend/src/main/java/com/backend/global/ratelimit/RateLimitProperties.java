@@ -0,0 +1,57 @@
+package com.backend.global.ratelimit;
+
+import com.backend.global.security.filter.RequestPath;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "board.rate-limit")
+@Getter
+public class RateLimitProperties {
+
+    private static final Map<RequestPath, Limit> DEFAULT_LIMITS = Map.of(
+            RequestPath.MEMBER_LOGIN, new Limit(10, Duration.ofMinutes(1)),
+            RequestPath.POST_WRITE, new Limit(10, Duration.ofMinutes(1)),
+            RequestPath.COMMENT_WRITE, new Limit(30, Duration.ofMinutes(1))
+    );
+
+    private final Duration redisTimeout;
+    private final Duration fallbackDuration;
+    private final long localMaximumSize;
+    private final Map<RequestPath, Limit> limits;
+
+    public RateLimitProperties(@DefaultValue("50ms") Duration redisTimeout,
+                               @DefaultValue("10s") Duration fallbackDuration,
+                               @DefaultValue("100000") long localMaximumSize,
+                               Map<RequestPath, Limit> limits) {
+        this.redisTimeout = redisTimeout;
+        this.fallbackDuration = fallbackDuration;
+        this.localMaximumSize = localMaximumSize;
+        Map<RequestPath, Limit> mergedLimits = new EnumMap<>(DEFAULT_LIMITS);
+        if (limits != null) {
+            mergedLimits.putAll(limits);
+        }
+        mergedLimits.values().removeIf(limit -> limit.getCapacity() <= 0);
+        this.limits = mergedLimits;
+    }
+
+    @Getter
+    public static class Limit {
+
+        private final int capacity;
+        private final Duration period;
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+    }
+
+}
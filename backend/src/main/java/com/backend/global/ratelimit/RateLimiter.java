@@ -0,0 +1,117 @@
+package com.backend.global.ratelimit;
+
+import com.backend.global.security.filter.RequestPath;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'refilled_at')
+            local tokens = tonumber(bucket[1]) or capacity
+            local refilledAt = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * capacity / period)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) * period / capacity)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'refilled_at', now)
+            redis.call('PEXPIRE', KEYS[1], period)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<RequestPath, RateLimitProperties.Limit> limits;
+    private final Cache<String, LocalTokenBucket> localBuckets;
+    private final long fallbackMillis;
+    private final MeterRegistry meterRegistry;
+    private final Counter fallbacks;
+    private volatile long fallbackUntil;
+
+    public RateLimiter(@Qualifier("rateLimitRedisTemplate") StringRedisTemplate stringRedisTemplate,
+                       RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.limits = properties.getLimits();
+        Duration longestPeriod = limits.values().stream()
+                .map(RateLimitProperties.Limit::getPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterAccess(longestPeriod)
+                .build();
+        this.fallbackMillis = properties.getFallbackDuration().toMillis();
+        this.meterRegistry = meterRegistry;
+        this.fallbacks = meterRegistry.counter("board.rate-limit.fallback");
+    }
+
+    public long tryAcquire(RequestPath requestPath, String key) {
+        RateLimitProperties.Limit limit = limits.get(requestPath);
+        if (limit == null) {
+            return 0;
+        }
+        String bucketKey = KEY_PREFIX + requestPath.name().toLowerCase(Locale.ROOT) + ":" + key;
+        long retryAfterMillis = acquire(bucketKey, limit);
+        if (retryAfterMillis > 0) {
+            meterRegistry.counter("board.rate-limit.rejected", "path", requestPath.name()).increment();
+        }
+        return retryAfterMillis;
+    }
+
+    /**
+     * 전용 Redis 연결에 설정된 명령 타임아웃을 넘기면 예외가 발생하므로 요청이 redisTimeout 이상 묶이지 않는다.
+     */
+    private long acquire(String bucketKey, RateLimitProperties.Limit limit) {
+        if (System.currentTimeMillis() < fallbackUntil) {
+            return acquireLocal(bucketKey, limit);
+        }
+        try {
+            Long retryAfterMillis = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                    String.valueOf(limit.getCapacity()), String.valueOf(limit.getPeriod().toMillis()));
+            return retryAfterMillis == null ? 0 : retryAfterMillis;
+        } catch (DataAccessException e) {
+            log.warn("Redis 요청 제한 확인에 실패해 {}ms 동안 로컬 버킷을 사용합니다.", fallbackMillis, e);
+            openFallback();
+            return acquireLocal(bucketKey, limit);
+        }
+    }
+
+    private long acquireLocal(String bucketKey, RateLimitProperties.Limit limit) {
+        return localBuckets.get(bucketKey, key -> new LocalTokenBucket(limit.getCapacity(), limit.getPeriod()))
+                .tryAcquire();
+    }
+
+    private void openFallback() {
+        fallbackUntil = System.currentTimeMillis() + fallbackMillis;
+        fallbacks.increment();
+    }
+
+}
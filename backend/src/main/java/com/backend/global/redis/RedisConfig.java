@@ -1,16 +1,62 @@
 package com.backend.global.redis;
 
+import com.backend.global.ratelimit.RateLimitProperties;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
 
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory(RedisProperties properties) {
         return new LettuceConnectionFactory(properties.getHost(), properties.getPort());
     }
 
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public LettuceConnectionFactory rateLimitRedisConnectionFactory(RedisProperties properties,
+                                                                    RateLimitProperties rateLimitProperties) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(rateLimitProperties.getRedisTimeout())
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(rateLimitProperties.getRedisTimeout())
+                                .build())
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(properties.getHost(), properties.getPort()),
+                clientConfiguration);
+    }
+
+    @Bean
+    public StringRedisTemplate rateLimitRedisTemplate(
+            @Qualifier("rateLimitRedisConnectionFactory") RedisConnectionFactory rateLimitRedisConnectionFactory) {
+        return new StringRedisTemplate(rateLimitRedisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.backend.global.security.config;
+
+import com.backend.global.security.password.BCryptStrengthCalibrator;
+import com.backend.global.security.password.CalibratedBCryptPasswordEncoder;
+import com.backend.global.security.password.PasswordHashProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashProperties properties) {
+        int strength = new BCryptStrengthCalibrator()
+                .calibrate(properties.getLatencyBudget(), properties.getMinStrength(), properties.getMaxStrength());
+        log.info("비밀번호 해시 비용을 {}로 설정했습니다. (목표 {}ms)", strength, properties.getLatencyBudget().toMillis());
+        CalibratedBCryptPasswordEncoder bCryptPasswordEncoder = new CalibratedBCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bCryptPasswordEncoder));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return passwordEncoder;
+    }
+
+}
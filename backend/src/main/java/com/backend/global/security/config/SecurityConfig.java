@@ -1,21 +1,24 @@
 package com.backend.global.security.config;
 
 import com.backend.domain.auth.service.TokenService;
+import com.backend.global.ratelimit.RateLimiter;
 import com.backend.global.security.filter.AuthenticationFilter;
+import com.backend.global.security.filter.RateLimitFilter;
+import com.backend.global.security.filter.RequestPath;
+import com.backend.global.security.filter.RequestPath.Authority;
 import com.backend.global.security.handler.AuthenticationExceptionHandler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.ExceptionTranslationFilter;
@@ -27,6 +30,8 @@ import org.springframework.security.web.access.ExceptionTranslationFilter;
 public class SecurityConfig {
 
     private final TokenService tokenService;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -40,38 +45,24 @@ public class SecurityConfig {
                         .authenticationEntryPoint(authenticationEntryPoint())
                 )
                 .addFilterAfter(authenticationFilter(), ExceptionTranslationFilter.class)
+                .addFilterAfter(rateLimitFilter(), AuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.GET,
-                                "/api/posts",
-                                "/api/posts/search",
-                                "/api/posts/*",
-                                "/api/posts/*/comments").permitAll()
-                        .requestMatchers(HttpMethod.POST,
-                                "/api/members/signup",
-                                "/api/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.POST,
-                                "/api/auth/logout",
-                                "/api/posts/write",
-                                "/api/posts/*/comments/write").hasRole("MEMBER")
-                        .requestMatchers(HttpMethod.PUT,
-                                "/api/posts/*",
-                                "/api/posts/*/comments/*").hasRole("MEMBER")
-                        .requestMatchers(HttpMethod.DELETE,
-                                "/api/posts/*",
-                                "/api/posts/*/comments/*").hasRole("MEMBER")
+                        .requestMatchers(RequestPath.matcher(Authority.PERMIT_ALL)).permitAll()
+                        .requestMatchers(RequestPath.matcher(Authority.ROLE_MEMBER)).hasRole("MEMBER")
+                        .requestMatchers(RequestPath.matcher(Authority.ROLE_ADMIN)).hasRole("ADMIN")
                         .anyRequest().denyAll()
                 );
         return httpSecurity.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationFilter authenticationFilter() {
+        return new AuthenticationFilter(tokenService);
     }
 
     @Bean
-    public AuthenticationFilter authenticationFilter() {
-        return new AuthenticationFilter(tokenService);
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimiter, objectMapper);
     }
 
     @Bean
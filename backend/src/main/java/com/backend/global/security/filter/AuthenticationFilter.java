@@ -1,5 +1,7 @@
 package com.backend.global.security.filter;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.auth.exception.InvalidTokenException;
 import com.backend.domain.auth.service.TokenService;
 
 import io.jsonwebtoken.Claims;
@@ -11,7 +13,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,10 +20,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 import static org.springframework.security.core.authority.AuthorityUtils.createAuthorityList;
-import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 @RequiredArgsConstructor
 public class AuthenticationFilter extends OncePerRequestFilter {
@@ -34,8 +33,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
-        tokenService.validateToken(token);
-        Claims claims = tokenService.extractClaim(token);
+        Claims claims = tokenService.validateToken(token);
         Authentication authentication = createAuthentication(claims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         filterChain.doFilter(request, response);
@@ -50,9 +48,14 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     }
 
     private Authentication createAuthentication(Claims claims) {
-        String username = claims.getSubject();
+        Long memberId = claims.get("memberId", Long.class);
+        if (memberId == null) {
+            throw new InvalidTokenException();
+        }
+        LoginMember loginMember = new LoginMember(memberId, claims.getSubject(),
+                claims.get("nickname", String.class), claims.get("did", String.class));
         String authority = claims.get("authority", String.class);
-        return UsernamePasswordAuthenticationToken.authenticated(username, null, createAuthorityList(authority));
+        return UsernamePasswordAuthenticationToken.authenticated(loginMember, null, createAuthorityList(authority));
     }
 
     @Override
@@ -60,45 +63,4 @@ public class AuthenticationFilter extends OncePerRequestFilter {
         return RequestPath.isShouldNotFilter(request);
     }
 
-    private enum RequestPath {
-
-        // PERMIT_ALL(전부 허용)
-        MEMBER_SIGNUP(HttpMethod.POST, "/api/members/signup", Authority.PERMIT_ALL),
-        MEMBER_LOGIN(HttpMethod.POST, "/api/auth/login", Authority.PERMIT_ALL),
-        POST_DETAIL(HttpMethod.GET, "/api/posts/*", Authority.PERMIT_ALL),
-        POST_LIST(HttpMethod.GET, "/api/posts", Authority.PERMIT_ALL),
-        POST_LIST_SEARCH(HttpMethod.GET, "/api/posts/search", Authority.PERMIT_ALL),
-        COMMENT_LIST(HttpMethod.GET, "/api/posts/*/comments", Authority.PERMIT_ALL),
-
-        // ROLE_MEMBER(로그인 회원 허용)
-        MEMBER_LOGOUT(HttpMethod.POST, "/api/auth/logout", Authority.ROLE_MEMBER),
-        POST_WRITE(HttpMethod.POST, "/api/posts/write", Authority.ROLE_MEMBER),
-        POST_MODIFY(HttpMethod.PUT, "/api/posts/*", Authority.ROLE_MEMBER),
-        POST_DELETE(HttpMethod.DELETE, "/api/posts/*", Authority.ROLE_MEMBER),
-        COMMENT_WRITE(HttpMethod.POST, "/api/posts/*/comments/write", Authority.ROLE_MEMBER),
-        COMMENT_MODIFY(HttpMethod.PUT, "/api/posts/*/comments/*", Authority.ROLE_MEMBER),
-        COMMENT_DELETE(HttpMethod.DELETE, "/api/posts/*/comments/*", Authority.ROLE_MEMBER);
-
-        enum Authority {
-            PERMIT_ALL, ROLE_MEMBER
-        }
-
-        private final HttpMethod httpMethod;
-        private final String pattern;
-        private final Authority authority;
-
-        RequestPath(HttpMethod httpMethod, String pattern, Authority authority) {
-            this.httpMethod = httpMethod;
-            this.pattern = pattern;
-            this.authority = authority;
-        }
-
-        private static boolean isShouldNotFilter(HttpServletRequest request) {
-            return Arrays.stream(RequestPath.values())
-                    .anyMatch(requestPath -> requestPath.authority.equals(Authority.PERMIT_ALL) &&
-                            antMatcher(requestPath.httpMethod, requestPath.pattern).matches(request));
-        }
-
-    }
-
 }
@@ -0,0 +1,69 @@
+package com.backend.global.security.filter;
+
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.global.error.dto.ErrorResponse;
+import com.backend.global.error.exception.ErrorType;
+import com.backend.global.ratelimit.RateLimitExceededException;
+import com.backend.global.ratelimit.RateLimiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Optional<RequestPath> requestPath = RequestPath.match(request);
+        if (requestPath.isPresent()) {
+            long retryAfterMillis = acquire(requestPath.get(), request);
+            if (retryAfterMillis > 0) {
+                reject(response, retryAfterMillis);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long acquire(RequestPath requestPath, HttpServletRequest request) {
+        long retryAfterMillis = rateLimiter.tryAcquire(requestPath, "ip:" + request.getRemoteAddr());
+        if (retryAfterMillis > 0) {
+            return retryAfterMillis;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof LoginMember loginMember) {
+            return rateLimiter.tryAcquire(requestPath, "user:" + loginMember.getUsername());
+        }
+        return 0;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        ErrorType errorType = ErrorType.TOO_MANY_REQUESTS;
+        response.setStatus(errorType.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitExceededException.toSeconds(retryAfterMillis)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorType));
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.backend.global.security.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import lombok.Getter;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Optional;
+
+@Getter
+public enum RequestPath {
+
+    // PERMIT_ALL(전부 허용)
+    MEMBER_SIGNUP(HttpMethod.POST, "/api/members/signup", Authority.PERMIT_ALL),
+    MEMBER_NICKNAME_CHECK(HttpMethod.GET, "/api/members/check", Authority.PERMIT_ALL),
+    MEMBER_LOGIN(HttpMethod.POST, "/api/auth/login", Authority.PERMIT_ALL),
+    TOKEN_REFRESH(HttpMethod.POST, "/api/auth/refresh", Authority.PERMIT_ALL),
+    POST_DETAIL(HttpMethod.GET, "/api/posts/*", Authority.PERMIT_ALL),
+    POST_LIST(HttpMethod.GET, "/api/posts", Authority.PERMIT_ALL),
+    POST_LIST_SEARCH(HttpMethod.GET, "/api/posts/search", Authority.PERMIT_ALL),
+    POST_POPULAR(HttpMethod.GET, "/api/posts/popular", Authority.PERMIT_ALL),
+    COMMENT_LIST(HttpMethod.GET, "/api/posts/*/comments", Authority.PERMIT_ALL),
+
+    // ROLE_MEMBER(로그인 회원 허용)
+    MEMBER_LOGOUT(HttpMethod.POST, "/api/auth/logout", Authority.ROLE_MEMBER),
+    MEMBER_LOGOUT_ALL(HttpMethod.POST, "/api/auth/logout-all", Authority.ROLE_MEMBER),
+    MEMBER_SESSIONS(HttpMethod.GET, "/api/auth/sessions", Authority.ROLE_MEMBER),
+    MEMBER_SESSION_DELETE(HttpMethod.DELETE, "/api/auth/sessions/*", Authority.ROLE_MEMBER),
+    POST_WRITE(HttpMethod.POST, "/api/posts/write", Authority.ROLE_MEMBER),
+    POST_MODIFY(HttpMethod.PUT, "/api/posts/*", Authority.ROLE_MEMBER),
+    POST_DELETE(HttpMethod.DELETE, "/api/posts/*", Authority.ROLE_MEMBER),
+    COMMENT_WRITE(HttpMethod.POST, "/api/posts/*/comments/write", Authority.ROLE_MEMBER),
+    COMMENT_MODIFY(HttpMethod.PUT, "/api/posts/*/comments/*", Authority.ROLE_MEMBER),
+    COMMENT_DELETE(HttpMethod.DELETE, "/api/posts/*/comments/*", Authority.ROLE_MEMBER),
+
+    // ROLE_ADMIN(관리자 허용)
+    ADMIN_IMPORT(HttpMethod.POST, "/api/admin/import", Authority.ROLE_ADMIN);
+
+    public enum Authority {
+        PERMIT_ALL, ROLE_MEMBER, ROLE_ADMIN
+    }
+
+    private static final RouteTrie ROUTES = new RouteTrie(values());
+
+    private final HttpMethod httpMethod;
+    private final String pattern;
+    private final Authority authority;
+
+    RequestPath(HttpMethod httpMethod, String pattern, Authority authority) {
+        this.httpMethod = httpMethod;
+        this.pattern = pattern;
+        this.authority = authority;
+    }
+
+    public static boolean isShouldNotFilter(HttpServletRequest request) {
+        RequestPath requestPath = ROUTES.find(request);
+        return requestPath != null && requestPath.authority == Authority.PERMIT_ALL;
+    }
+
+    public static Optional<RequestPath> match(HttpServletRequest request) {
+        return Optional.ofNullable(ROUTES.find(request));
+    }
+
+    public static RequestMatcher matcher(Authority authority) {
+        return request -> {
+            RequestPath requestPath = ROUTES.find(request);
+            return requestPath != null && requestPath.authority == authority;
+        };
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.backend.global.security.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class RouteTrie {
+
+    private static final String WILDCARD = "*";
+
+    private final Map<String, Node> roots = new HashMap<>();
+
+    RouteTrie(RequestPath... requestPaths) {
+        for (RequestPath requestPath : requestPaths) {
+            Node node = roots.computeIfAbsent(requestPath.getHttpMethod().name(), method -> new Node());
+            for (String segment : requestPath.getPattern().substring(1).split("/")) {
+                node = node.child(segment);
+            }
+            if (node.requestPath == null) {
+                node.requestPath = requestPath;
+            }
+        }
+    }
+
+    RequestPath find(HttpServletRequest request) {
+        return find(request.getMethod(), requestPath(request));
+    }
+
+    RequestPath find(String method, String path) {
+        Node root = roots.get(method);
+        if (root == null || !path.startsWith("/")) {
+            return null;
+        }
+        return find(root, path, 1);
+    }
+
+    private RequestPath find(Node node, String path, int start) {
+        if (start > path.length()) {
+            return node.requestPath;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        for (int i = 0; i < node.segments.length; i++) {
+            String segment = node.segments[i];
+            if (segment.length() == end - start && path.startsWith(segment, start)) {
+                RequestPath requestPath = find(node.children[i], path, end + 1);
+                if (requestPath != null) {
+                    return requestPath;
+                }
+            }
+        }
+        if (node.wildcard != null) {
+            return find(node.wildcard, path, end + 1);
+        }
+        return null;
+    }
+
+    private String requestPath(HttpServletRequest request) {
+        String servletPath = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null) {
+            return servletPath;
+        }
+        return StringUtils.hasLength(servletPath) ? servletPath + pathInfo : pathInfo;
+    }
+
+    private static final class Node {
+
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private RequestPath requestPath;
+
+        private Node child(String segment) {
+            if (WILDCARD.equals(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+
+    }
+
+}
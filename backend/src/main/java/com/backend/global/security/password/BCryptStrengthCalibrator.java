@@ -0,0 +1,43 @@
+package com.backend.global.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+public class BCryptStrengthCalibrator {
+
+    private static final int SAMPLE_STRENGTH = 8;
+    private static final int SAMPLE_COUNT = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    public int calibrate(Duration latencyBudget, int minStrength, int maxStrength) {
+        return select(measureSample(), latencyBudget.toNanos(), minStrength, maxStrength);
+    }
+
+    static int select(long sampleNanos, long budgetNanos, int minStrength, int maxStrength) {
+        for (int strength = maxStrength; strength > minStrength; strength--) {
+            if (estimate(sampleNanos, strength) <= budgetNanos) {
+                return strength;
+            }
+        }
+        return minStrength;
+    }
+
+    private static long estimate(long sampleNanos, int strength) {
+        int shift = strength - SAMPLE_STRENGTH;
+        return shift >= 0 ? sampleNanos << shift : sampleNanos >> -shift;
+    }
+
+    private long measureSample() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(SAMPLE_STRENGTH);
+        encoder.encode(SAMPLE_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - startedAt);
+        }
+        return fastest;
+    }
+
+}
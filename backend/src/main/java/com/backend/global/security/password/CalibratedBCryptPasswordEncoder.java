@@ -0,0 +1,40 @@
+package com.backend.global.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$(2[aby]?)\\$(\\d\\d)\\$");
+    private static final String VERSION = BCryptVersion.$2A.getVersion();
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(BCryptVersion.$2A, strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 보정된 비용보다 낮거나 다른 알고리즘, 다른 버전으로 저장된 해시만 다시 해시한다.
+     * 보정된 비용이 낮아져도 더 강한 해시를 약하게 바꾸지 않는다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+        return !VERSION.equals(matcher.group(1)) || Integer.parseInt(matcher.group(2)) < strength;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.backend.global.security.password;
+
+import lombok.Getter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.password-hash")
+@Getter
+public class PasswordHashProperties {
+
+    private final Duration latencyBudget;
+    private final int minStrength;
+    private final int maxStrength;
+
+    public PasswordHashProperties(@DefaultValue("50ms") Duration latencyBudget,
+                                  @DefaultValue("10") int minStrength,
+                                  @DefaultValue("14") int maxStrength) {
+        this.latencyBudget = latencyBudget;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.backend.domain.admin.controller;
+
+import com.backend.domain.admin.dto.PostImportResponse;
+import com.backend.domain.admin.exception.InvalidImportDataException;
+import com.backend.domain.admin.service.PostImportService;
+import com.backend.support.ControllerTest;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminController.class)
+class AdminControllerTest extends ControllerTest {
+
+    private static final String IMPORT_CONTENT = """
+            {"username":"yoon1234","title":"title","content":"content","comments":[{"username":"yoon5678","content":"comment"}]}
+            {"username":"yoon1234","title":"title","content":"content"}
+            """;
+
+    @MockitoBean
+    private PostImportService postImportService;
+
+    @DisplayName("게시글 가져오기에 성공하면 200을 응답한다.")
+    @Test
+    void postImport() throws Exception {
+        Claims claims = Jwts.claims()
+                .add("username", "admin")
+                .add("memberId", 1L)
+                .add("nickname", "admin")
+                .add("authority", "ROLE_ADMIN")
+                .build();
+
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        given(postImportService.postImport(any(InputStream.class), anyLong())).willReturn(new PostImportResponse(2, 1, 0, 0, 2));
+
+        mockMvc.perform(post("/api/admin/import")
+                        .queryParam("skip", "0")
+                        .header("Authorization", "Bearer access-token")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(IMPORT_CONTENT)
+                )
+                .andExpect(status().isOk())
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer 액세스 토큰")
+                        ),
+                        queryParameters(
+                                parameterWithName("skip").description("저장하지 않고 건너뛸 앞쪽 레코드 수 (기본값 0)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("importedPosts").type(JsonFieldType.NUMBER).description("가져온 게시글 수"),
+                                fieldWithPath("importedComments").type(JsonFieldType.NUMBER).description("가져온 댓글 수"),
+                                fieldWithPath("skippedPosts").type(JsonFieldType.NUMBER).description("건너뛴 게시글 수"),
+                                fieldWithPath("skippedComments").type(JsonFieldType.NUMBER).description("건너뛴 댓글 수"),
+                                fieldWithPath("committedRecords").type(JsonFieldType.NUMBER).description("저장이 완료된 레코드 수 (건너뛴 레코드 포함)")
+                        )
+                ));
+    }
+
+    @DisplayName("게시글 가져오기 시 데이터 형식이 잘못되면 저장된 레코드 수와 함께 400을 응답한다.")
+    @Test
+    void postImportInvalidData() throws Exception {
+        Claims claims = Jwts.claims()
+                .add("username", "admin")
+                .add("memberId", 1L)
+                .add("nickname", "admin")
+                .add("authority", "ROLE_ADMIN")
+                .build();
+
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        willThrow(new InvalidImportDataException(new PostImportResponse(2, 1, 0, 0, 2)))
+                .given(postImportService).postImport(any(InputStream.class), anyLong());
+
+        mockMvc.perform(post("/api/admin/import")
+                        .header("Authorization", "Bearer access-token")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(IMPORT_CONTENT + "{invalid")
+                )
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value(400),
+                        jsonPath("$.errorCode").value("E400003"),
+                        jsonPath("$.message").value("가져오기 데이터 형식이 잘못 되었습니다."),
+                        jsonPath("$.progress.importedPosts").value(2),
+                        jsonPath("$.progress.committedRecords").value(2)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("HTTP 상태 코드"),
+                                fieldWithPath("errorCode").type(JsonFieldType.STRING).description("에러 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("에러 메시지"),
+                                fieldWithPath("progress.importedPosts").type(JsonFieldType.NUMBER).description("실패 전까지 가져온 게시글 수"),
+                                fieldWithPath("progress.importedComments").type(JsonFieldType.NUMBER).description("실패 전까지 가져온 댓글 수"),
+                                fieldWithPath("progress.skippedPosts").type(JsonFieldType.NUMBER).description("실패 전까지 건너뛴 게시글 수"),
+                                fieldWithPath("progress.skippedComments").type(JsonFieldType.NUMBER).description("실패 전까지 건너뛴 댓글 수"),
+                                fieldWithPath("progress.committedRecords").type(JsonFieldType.NUMBER).description("저장이 완료된 레코드 수, 다시 요청할 때 skip으로 전달")
+                        )
+                ));
+    }
+
+    @DisplayName("게시글 가져오기 시 관리자가 아니면 403을 응답한다.")
+    @Test
+    void postImportAccessDenied() throws Exception {
+        Claims claims = Jwts.claims()
+                .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
+                .add("authority", "ROLE_MEMBER")
+                .build();
+
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+
+        mockMvc.perform(post("/api/admin/import")
+                        .header("Authorization", "Bearer access-token")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(IMPORT_CONTENT)
+                )
+                .andExpect(status().isForbidden());
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.backend.domain.admin.service;
+
+import com.backend.domain.admin.dto.PostImportResponse;
+import com.backend.domain.admin.exception.InvalidImportDataException;
+import com.backend.domain.comment.entity.Comment;
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostImportEvent;
+import com.backend.domain.post.repository.PostRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PostImportProperties properties = new PostImportProperties(3, 2, 100);
+
+    @InjectMocks
+    private PostImportService postImportService;
+
+    private final AtomicLong postId = new AtomicLong();
+
+    @DisplayName("NDJSON 형식의 게시글과 댓글을 청크 단위로 저장한다.")
+    @Test
+    void postImport() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("12345678")
+                .build();
+
+        willAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(memberRepository.findByUsername("yoon1234")).willReturn(Optional.of(member));
+        given(memberRepository.findByUsername("unknown")).willReturn(Optional.empty());
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            ReflectionTestUtils.setField(post, "id", postId.incrementAndGet());
+            return post;
+        });
+
+        PostImportResponse postImportResponse = postImportService.postImport(ndjson(
+                "{\"username\":\"yoon1234\",\"title\":\"title1\",\"content\":\"content\",\"comments\":[{\"username\":\"yoon1234\",\"content\":\"comment\"},{\"username\":\"unknown\",\"content\":\"comment\"}]}",
+                "{\"username\":\"yoon1234\",\"title\":\"\",\"content\":\"content\"}",
+                "{\"username\":\"yoon1234\",\"title\":\"title2\",\"content\":\"content\"}"
+        ));
+
+        assertThat(postImportResponse.getImportedPosts()).isEqualTo(2);
+        assertThat(postImportResponse.getImportedComments()).isEqualTo(1);
+        assertThat(postImportResponse.getSkippedPosts()).isEqualTo(1);
+        assertThat(postImportResponse.getSkippedComments()).isEqualTo(1);
+        assertThat(postImportResponse.getCommittedRecords()).isEqualTo(3);
+        then(memberRepository).should(times(1)).findByUsername("yoon1234");
+        then(commentRepository).should().save(any(Comment.class));
+        then(transactionTemplate).should(times(2)).executeWithoutResult(any());
+        then(postRepository).should(times(2)).repairCommentCount(anyLong(), anyLong());
+        then(eventPublisher).should(times(2)).publishEvent(any(PostImportEvent.class));
+        then(entityManager).should(times(3)).clear();
+    }
+
+    @DisplayName("데이터 형식이 잘못되면 예외가 발생한다.")
+    @Test
+    void postImportInvalidData() {
+        assertThatThrownBy(() -> postImportService.postImport(ndjson("{\"username\":")))
+                .isInstanceOf(InvalidImportDataException.class)
+                .extracting("progress.committedRecords")
+                .isEqualTo(0L);
+
+        then(memberRepository).should(never()).findByUsername(anyString());
+    }
+
+    @DisplayName("중간에 데이터 형식이 잘못되면 앞의 레코드를 저장하고 저장된 레코드 수를 예외에 담는다.")
+    @Test
+    void postImportInvalidDataMidStream() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("12345678")
+                .build();
+
+        willAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(memberRepository.findByUsername("yoon1234")).willReturn(Optional.of(member));
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            ReflectionTestUtils.setField(post, "id", postId.incrementAndGet());
+            return post;
+        });
+
+        assertThatThrownBy(() -> postImportService.postImport(ndjson(
+                "{\"username\":\"yoon1234\",\"title\":\"title1\",\"content\":\"content\"}",
+                "{\"username\":"
+        )))
+                .isInstanceOf(InvalidImportDataException.class)
+                .satisfies(ex -> {
+                    PostImportResponse progress = ((InvalidImportDataException) ex).getProgress();
+                    assertThat(progress.getImportedPosts()).isEqualTo(1);
+                    assertThat(progress.getCommittedRecords()).isEqualTo(1);
+                });
+
+        then(postRepository).should(times(1)).save(any(Post.class));
+    }
+
+    @DisplayName("건너뛸 레코드 수만큼 앞의 레코드는 저장하지 않는다.")
+    @Test
+    void postImportSkip() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("12345678")
+                .build();
+
+        willAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(memberRepository.findByUsername("yoon1234")).willReturn(Optional.of(member));
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            ReflectionTestUtils.setField(post, "id", postId.incrementAndGet());
+            return post;
+        });
+
+        PostImportResponse postImportResponse = postImportService.postImport(ndjson(
+                "{\"username\":\"yoon1234\",\"title\":\"title1\",\"content\":\"content\"}",
+                "{\"username\":\"yoon1234\",\"title\":\"title2\",\"content\":\"content\"}",
+                "{\"username\":\"yoon1234\",\"title\":\"title3\",\"content\":\"content\"}"
+        ), 2);
+
+        assertThat(postImportResponse.getImportedPosts()).isEqualTo(1);
+        assertThat(postImportResponse.getCommittedRecords()).isEqualTo(3);
+        then(postRepository).should(times(1)).save(any(Post.class));
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
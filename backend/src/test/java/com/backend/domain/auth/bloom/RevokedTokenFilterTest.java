@@ -0,0 +1,92 @@
+package com.backend.domain.auth.bloom;
+
+import com.backend.domain.auth.repository.TokenRepository;
+import com.backend.domain.auth.token.TokenDigest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenFilterTest {
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private RevokedTokenFilter revokedTokenFilter;
+
+    @BeforeEach
+    void setUp() {
+        RevokedTokenFilterProperties properties = new RevokedTokenFilterProperties(1000, 0.001, 100);
+        revokedTokenFilter = new RevokedTokenFilter(properties, tokenRepository, stringRedisTemplate, redisMessageListenerContainer);
+    }
+
+    @DisplayName("구성이 끝나기 전에는 모든 토큰을 폐기되었을 수 있다고 응답한다.")
+    @Test
+    void mightContainBeforeRebuild() {
+        assertThat(revokedTokenFilter.mightContain("access-jti")).isTrue();
+    }
+
+    @DisplayName("Redis의 blacklist를 읽어 폐기 토큰 필터를 구성한다.")
+    @Test
+    void rebuild() {
+        willAnswer(invocation -> {
+            Consumer<byte[]> consumer = invocation.getArgument(1);
+            consumer.accept(TokenDigest.digest("revoked-jti"));
+            return 1L;
+        }).given(tokenRepository).scanBlackList(anyInt(), any());
+
+        revokedTokenFilter.rebuild();
+
+        assertThat(revokedTokenFilter.mightContain("revoked-jti")).isTrue();
+        assertThat(revokedTokenFilter.mightContain("access-jti")).isFalse();
+    }
+
+    @DisplayName("구성에 실패하면 모든 토큰을 Redis에서 확인하도록 둔다.")
+    @Test
+    void rebuildRedisFailure() {
+        given(tokenRepository.scanBlackList(anyInt(), any())).willThrow(new QueryTimeoutException("timeout"));
+
+        revokedTokenFilter.rebuild();
+
+        assertThat(revokedTokenFilter.mightContain("access-jti")).isTrue();
+    }
+
+    @DisplayName("토큰을 폐기하면 필터에 추가하고 다른 서버에 전파한다.")
+    @Test
+    void add() {
+        given(tokenRepository.scanBlackList(anyInt(), any())).willReturn(0L);
+        revokedTokenFilter.rebuild();
+
+        revokedTokenFilter.add("revoked-jti");
+
+        assertThat(revokedTokenFilter.mightContain("revoked-jti")).isTrue();
+        then(stringRedisTemplate).should().convertAndSend(anyString(), eq("revoked-jti"));
+    }
+
+}
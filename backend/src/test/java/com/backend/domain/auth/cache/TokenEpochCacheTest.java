@@ -0,0 +1,73 @@
+package com.backend.domain.auth.cache;
+
+import com.backend.domain.auth.repository.TokenEpochRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TokenEpochCacheTest {
+
+    @Mock
+    private TokenEpochRepository tokenEpochRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TokenEpochCache tokenEpochCache;
+
+    @BeforeEach
+    void setUp() {
+        TokenEpochCacheProperties properties = new TokenEpochCacheProperties(100, Duration.ofMinutes(1));
+        tokenEpochCache = new TokenEpochCache(properties, tokenEpochRepository, stringRedisTemplate,
+                redisMessageListenerContainer, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("회원의 토큰 epoch를 Redis에서 한 번 읽어 로컬 캐시에 보관한다.")
+    @Test
+    void get() {
+        given(tokenEpochRepository.find(1L)).willReturn(3L);
+
+        tokenEpochCache.get(1L);
+        long epoch = tokenEpochCache.get(1L);
+
+        assertThat(epoch).isEqualTo(3L);
+        then(tokenEpochRepository).should().find(1L);
+    }
+
+    @DisplayName("토큰 epoch를 올리면 로컬 캐시를 갱신하고 다른 서버에 무효화 메시지를 발행한다.")
+    @Test
+    void bump() {
+        given(tokenEpochRepository.bump(1L, 1000L)).willReturn(5L);
+
+        tokenEpochCache.bump(1L, 1000L);
+        long epoch = tokenEpochCache.get(1L);
+
+        assertThat(epoch).isEqualTo(5L);
+        then(tokenEpochRepository).should(never()).find(1L);
+        then(stringRedisTemplate).should().convertAndSend(anyString(), eq("1"));
+    }
+
+}
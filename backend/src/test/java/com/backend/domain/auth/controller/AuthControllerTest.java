@@ -1,10 +1,17 @@
 package com.backend.domain.auth.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.auth.dto.LoginRequest;
+import com.backend.domain.auth.dto.RefreshRequest;
+import com.backend.domain.auth.dto.SessionItem;
+import com.backend.domain.auth.dto.SessionListResponse;
 import com.backend.domain.auth.dto.TokenResponse;
 import com.backend.domain.auth.exception.BadCredentialsException;
 import com.backend.domain.auth.exception.ExpiredTokenException;
 import com.backend.domain.auth.exception.InvalidTokenException;
+import com.backend.domain.auth.exception.LoginBusyException;
+import com.backend.domain.auth.exception.NotFoundSessionException;
+import com.backend.domain.auth.exception.ReusedRefreshTokenException;
 import com.backend.domain.auth.service.AuthService;
 import com.backend.support.ControllerTest;
 import com.backend.global.error.exception.ErrorType;
@@ -20,7 +27,11 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -28,10 +39,15 @@ import static org.mockito.BDDMockito.willThrow;
 
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,10 +60,10 @@ class AuthControllerTest extends ControllerTest {
     @DisplayName("로그인에 성공하면 access token과 refresh token을 응답한다.")
     @Test
     void memberLogin() throws Exception {
-        LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678");
+        LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678", "device-id");
         TokenResponse tokenResponse = new TokenResponse("access-token", "refresh-token");
 
-        given(authService.memberLogin(any(LoginRequest.class))).willReturn(tokenResponse);
+        given(authService.memberLogin(any(LoginRequest.class), any())).willReturn(tokenResponse);
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -62,7 +78,8 @@ class AuthControllerTest extends ControllerTest {
                 .andDo(restdocs.document(
                         requestFields(
                                 fieldWithPath("username").type(JsonFieldType.STRING).description("아이디"),
-                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호")
+                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호"),
+                                fieldWithPath("deviceId").type(JsonFieldType.STRING).description("이전에 발급받은 기기 ID, 세션이 남아 있으면 같은 기기로 로그인").optional()
                         ),
                         responseFields(
                                 fieldWithPath("accessToken").type(JsonFieldType.STRING).description("액세스 토큰"),
@@ -76,7 +93,7 @@ class AuthControllerTest extends ControllerTest {
     void memberLoginBadCredentials() throws Exception {
         LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678");
 
-        willThrow(new BadCredentialsException()).given(authService).memberLogin(any(LoginRequest.class));
+        willThrow(new BadCredentialsException()).given(authService).memberLogin(any(LoginRequest.class), any());
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -90,17 +107,86 @@ class AuthControllerTest extends ControllerTest {
                 );
     }
 
+    @DisplayName("로그인 요청이 몰려 비밀번호 검증 대기열이 가득 차면 503과 Retry-After를 응답한다.")
+    @Test
+    void memberLoginBusy() throws Exception {
+        LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678");
+
+        willThrow(new LoginBusyException(1)).given(authService).memberLogin(any(LoginRequest.class), any());
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest))
+                )
+                .andExpectAll(
+                        status().isServiceUnavailable(),
+                        header().string("Retry-After", "1"),
+                        jsonPath("$.status").value(503),
+                        jsonPath("$.errorCode").value("E503001"),
+                        jsonPath("$.message").value("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.")
+                );
+    }
+
+    @DisplayName("refresh token으로 재발급에 성공하면 새 access token과 refresh token을 응답한다.")
+    @Test
+    void tokenRefresh() throws Exception {
+        RefreshRequest refreshRequest = new RefreshRequest("refresh-token");
+        TokenResponse tokenResponse = new TokenResponse("new-access-token", "new-refresh-token");
+
+        given(authService.tokenRefresh(anyString())).willReturn(tokenResponse);
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest))
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.accessToken").value("new-access-token"),
+                        jsonPath("$.refreshToken").value("new-refresh-token")
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        requestFields(
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("리프레시 토큰")
+                        ),
+                        responseFields(
+                                fieldWithPath("accessToken").type(JsonFieldType.STRING).description("새 액세스 토큰"),
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("새 리프레시 토큰")
+                        )
+                ));
+    }
+
+    @DisplayName("이미 사용된 refresh token으로 재발급을 요청하면 401을 응답한다.")
+    @Test
+    void tokenRefreshReused() throws Exception {
+        RefreshRequest refreshRequest = new RefreshRequest("refresh-token");
+
+        willThrow(new ReusedRefreshTokenException()).given(authService).tokenRefresh(anyString());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest))
+                )
+                .andExpectAll(
+                        status().isUnauthorized(),
+                        jsonPath("$.status").value(401),
+                        jsonPath("$.errorCode").value("E401004"),
+                        jsonPath("$.message").value("이미 사용된 refresh token입니다. 다시 로그인해 주세요.")
+                );
+    }
+
     @DisplayName("로그아웃에 성공하면 200을 응답한다.")
     @Test
     void memberLogout() throws Exception {
         Claims claims = Jwts.claims()
                 .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
-        willDoNothing().given(authService).memberLogout(anyString(), anyString());
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        willDoNothing().given(authService).memberLogout(anyString(), any(LoginMember.class));
 
         mockMvc.perform(post("/api/auth/logout")
                         .header("Authorization", "Bearer access-token")
@@ -114,6 +200,96 @@ class AuthControllerTest extends ControllerTest {
                 ));
     }
 
+    @DisplayName("전체 기기 로그아웃에 성공하면 200을 응답한다.")
+    @Test
+    void memberLogoutAll() throws Exception {
+        given(tokenService.validateToken(anyString())).willReturn(memberClaims());
+        willDoNothing().given(authService).memberLogoutAll(anyLong());
+
+        mockMvc.perform(post("/api/auth/logout-all")
+                        .header("Authorization", "Bearer access-token")
+                )
+                .andExpect(status().isOk())
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer 액세스 토큰")
+                        )
+                ));
+    }
+
+    @DisplayName("로그인한 기기 목록을 응답한다.")
+    @Test
+    void memberSessions() throws Exception {
+        SessionListResponse sessionListResponse = new SessionListResponse(List.of(
+                new SessionItem("device-id", "Mozilla/5.0", LocalDateTime.now(), LocalDateTime.now().plusDays(1), true),
+                new SessionItem("other-device-id", "okhttp/4.12.0", LocalDateTime.now(), LocalDateTime.now().plusDays(1), false)
+        ));
+
+        given(tokenService.validateToken(anyString())).willReturn(memberClaims());
+        given(authService.memberSessions(any(LoginMember.class))).willReturn(sessionListResponse);
+
+        mockMvc.perform(get("/api/auth/sessions")
+                        .header("Authorization", "Bearer access-token")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.sessions[0].deviceId").value("device-id"),
+                        jsonPath("$.sessions[0].current").value(true)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer 액세스 토큰")
+                        ),
+                        responseFields(
+                                fieldWithPath("sessions[].deviceId").type(JsonFieldType.STRING).description("기기 번호"),
+                                fieldWithPath("sessions[].device").type(JsonFieldType.STRING).description("기기 정보(User-Agent)"),
+                                fieldWithPath("sessions[].loggedInAt").type(JsonFieldType.STRING).description("로그인 일시"),
+                                fieldWithPath("sessions[].expiresAt").type(JsonFieldType.STRING).description("세션 만료 일시"),
+                                fieldWithPath("sessions[].current").type(JsonFieldType.BOOLEAN).description("현재 기기 여부")
+                        )
+                ));
+    }
+
+    @DisplayName("로그인한 기기의 세션을 삭제하면 200을 응답한다.")
+    @Test
+    void memberSessionDelete() throws Exception {
+        given(tokenService.validateToken(anyString())).willReturn(memberClaims());
+        willDoNothing().given(authService).memberSessionDelete(anyLong(), anyString());
+
+        mockMvc.perform(delete("/api/auth/sessions/{deviceId}", "other-device-id")
+                        .header("Authorization", "Bearer access-token")
+                )
+                .andExpect(status().isOk())
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer 액세스 토큰")
+                        ),
+                        pathParameters(
+                                parameterWithName("deviceId").description("기기 번호")
+                        )
+                ));
+    }
+
+    @DisplayName("존재하지 않는 기기의 세션을 삭제하면 404를 응답한다.")
+    @Test
+    void memberSessionDeleteNotFound() throws Exception {
+        given(tokenService.validateToken(anyString())).willReturn(memberClaims());
+        willThrow(new NotFoundSessionException()).given(authService).memberSessionDelete(anyLong(), anyString());
+
+        mockMvc.perform(delete("/api/auth/sessions/{deviceId}", "other-device-id")
+                        .header("Authorization", "Bearer access-token")
+                )
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.status").value(404),
+                        jsonPath("$.errorCode").value("E404005"),
+                        jsonPath("$.message").value("로그인 기기가 존재하지 않습니다.")
+                );
+    }
+
     @DisplayName("로그아웃 시 액세스 토큰이 만료되면 401을 응답한다.")
     @Test
     void memberLogoutExpiredAccessToken() throws Exception {
@@ -150,4 +326,35 @@ class AuthControllerTest extends ControllerTest {
                 );
     }
 
-}
\ No newline at end of file
+    @DisplayName("로그아웃 시 액세스 토큰에 회원 번호가 없으면 401을 응답한다.")
+    @Test
+    void memberLogoutAccessTokenWithoutMemberId() throws Exception {
+        Claims claims = Jwts.claims()
+                .add("username", "yoon1234")
+                .add("authority", "ROLE_MEMBER")
+                .build();
+
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer access-token")
+                )
+                .andExpectAll(
+                        status().isUnauthorized(),
+                        jsonPath("$.status").value(401),
+                        jsonPath("$.errorCode").value("E401003"),
+                        jsonPath("$.message").value("토큰 형식이 잘못 되었습니다.")
+                );
+    }
+
+    private Claims memberClaims() {
+        return Jwts.claims()
+                .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
+                .add("did", "device-id")
+                .add("authority", "ROLE_MEMBER")
+                .build();
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.backend.domain.auth.service;
 
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.auth.dto.LoginRequest;
 import com.backend.domain.auth.dto.TokenResponse;
 import com.backend.domain.auth.exception.BadCredentialsException;
 import com.backend.domain.auth.exception.NotFoundTokenException;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.global.ratelimit.RateLimitExceededException;
+import com.backend.global.ratelimit.RateLimiter;
+import com.backend.global.security.filter.RequestPath;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +20,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
-
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -36,15 +39,22 @@ class AuthServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
 
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private RateLimiter rateLimiter;
+
     @InjectMocks
     private AuthService authService;
 
     private Member member;
+    private LoginMember loginMember;
 
     @BeforeEach
     void setUp() {
@@ -53,6 +63,7 @@ class AuthServiceTest {
                 .username("yoon1234")
                 .password("12345678")
                 .build();
+        loginMember = new LoginMember(1L, "yoon1234", "yoonkun", "device-id");
     }
 
     @DisplayName("로그인을 한다.")
@@ -62,16 +73,17 @@ class AuthServiceTest {
         TokenResponse tokenResponse = new TokenResponse("access-token", "refresh-token");
 
         given(memberRepository.findByUsername(anyString())).willReturn(Optional.of(member));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
-        given(tokenService.issueToken(anyString(), anyString())).willReturn(tokenResponse);
+        given(passwordVerifier.matches(anyString(), anyString())).willReturn(true);
+        given(tokenService.issueToken(any(), anyString(), anyString(), anyString(), any(), any())).willReturn(tokenResponse);
 
-        TokenResponse actual = authService.memberLogin(loginRequest);
+        TokenResponse actual = authService.memberLogin(loginRequest, "Mozilla/5.0");
 
         assertThat(actual.getAccessToken()).isEqualTo("access-token");
         assertThat(actual.getRefreshToken()).isEqualTo("refresh-token");
         then(memberRepository).should().findByUsername(anyString());
-        then(passwordEncoder).should().matches(anyString(), anyString());
-        then(tokenService).should().issueToken(anyString(), anyString());
+        then(passwordVerifier).should().matches(anyString(), anyString());
+        then(passwordRehashService).should().rehashIfNeeded(member, "12345678");
+        then(tokenService).should().issueToken(any(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @DisplayName("로그인 시 아이디가 잘못되면 예외가 발생한다.")
@@ -81,12 +93,12 @@ class AuthServiceTest {
 
         willThrow(new BadCredentialsException()).given(memberRepository).findByUsername(anyString());
 
-        assertThatThrownBy(() -> authService.memberLogin(loginRequest))
+        assertThatThrownBy(() -> authService.memberLogin(loginRequest, "Mozilla/5.0"))
                 .isInstanceOf(BadCredentialsException.class);
 
         then(memberRepository).should().findByUsername(anyString());
-        then(passwordEncoder).should(never()).matches(anyString(), anyString());
-        then(tokenService).should(never()).issueToken(anyString(), anyString());
+        then(passwordVerifier).should(never()).matches(anyString(), anyString());
+        then(tokenService).should(never()).issueToken(any(), anyString(), anyString(), anyString(), any(), any());
     }
 
     @DisplayName("로그인 시 비밀번호가 잘못되면 예외가 발생한다.")
@@ -95,46 +107,71 @@ class AuthServiceTest {
         LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678");
 
         given(memberRepository.findByUsername(anyString())).willReturn(Optional.of(member));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+        given(passwordVerifier.matches(anyString(), anyString())).willReturn(false);
 
-        assertThatThrownBy(() -> authService.memberLogin(loginRequest))
+        assertThatThrownBy(() -> authService.memberLogin(loginRequest, "Mozilla/5.0"))
                 .isInstanceOf(BadCredentialsException.class);
 
         then(memberRepository).should().findByUsername(anyString());
-        then(passwordEncoder).should().matches(anyString(), anyString());
-        then(tokenService).should(never()).issueToken(anyString(), anyString());
+        then(passwordVerifier).should().matches(anyString(), anyString());
+        then(passwordRehashService).should(never()).rehashIfNeeded(any(Member.class), anyString());
+        then(tokenService).should(never()).issueToken(any(), anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @DisplayName("로그인 시 같은 아이디로 요청이 너무 많으면 예외가 발생한다.")
+    @Test
+    void memberLoginRateLimited() {
+        LoginRequest loginRequest = new LoginRequest("yoon1234", "12345678");
+
+        given(rateLimiter.tryAcquire(RequestPath.MEMBER_LOGIN, "user:yoon1234")).willReturn(1500L);
+
+        assertThatThrownBy(() -> authService.memberLogin(loginRequest, "Mozilla/5.0"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(2L);
+
+        then(memberRepository).should(never()).findByUsername(anyString());
+        then(passwordVerifier).should(never()).matches(anyString(), anyString());
     }
 
     @DisplayName("로그아웃을 한다.")
     @Test
     void memberLogout() {
-        willDoNothing().given(tokenService).deleteToken(anyString(), anyString());
+        willDoNothing().given(tokenService).deleteToken(anyString(), any(LoginMember.class));
 
-        authService.memberLogout("access-token", "yoon1234");
+        authService.memberLogout("access-token", loginMember);
+
+        then(tokenService).should().deleteToken(anyString(), any(LoginMember.class));
+    }
+
+    @DisplayName("모든 기기에서 로그아웃을 한다.")
+    @Test
+    void memberLogoutAll() {
+        authService.memberLogoutAll(1L);
 
-        then(tokenService).should().deleteToken(anyString(), anyString());
+        then(tokenService).should().deleteAllTokens(1L);
     }
 
     @DisplayName("로그아웃 시 access token이 null이면 예외가 발생한다.")
     @Test
     void memberLogoutAccessTokenNull() {
-        willThrow(new NotFoundTokenException()).given(tokenService).deleteToken(anyString(), anyString());
+        willThrow(new NotFoundTokenException()).given(tokenService).deleteToken(anyString(), any(LoginMember.class));
 
-        assertThatThrownBy(() -> authService.memberLogout("access-token", "yoon1234"))
+        assertThatThrownBy(() -> authService.memberLogout("access-token", loginMember))
                 .isInstanceOf(NotFoundTokenException.class);
 
-        then(tokenService).should().deleteToken(anyString(), anyString());
+        then(tokenService).should().deleteToken(anyString(), any(LoginMember.class));
     }
 
     @DisplayName("로그아웃 시 refresh token이 존재하지 않으면 예외가 발생한다.")
     @Test
     void memberLogoutRefreshTokenNotFound() {
-        willThrow(new NotFoundTokenException()).given(tokenService).deleteToken(anyString(), anyString());
+        willThrow(new NotFoundTokenException()).given(tokenService).deleteToken(anyString(), any(LoginMember.class));
 
-        assertThatThrownBy(() -> authService.memberLogout("access-token", "yoon1234"))
+        assertThatThrownBy(() -> authService.memberLogout("access-token", loginMember))
                 .isInstanceOf(NotFoundTokenException.class);
 
-        then(tokenService).should().deleteToken(anyString(), anyString());
+        then(tokenService).should().deleteToken(anyString(), any(LoginMember.class));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.backend.domain.auth.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PasswordRehashService passwordRehashService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        passwordRehashService = new PasswordRehashService(passwordEncoder, passwordVerifier, memberRepository,
+                transactionTemplate, new SimpleMeterRegistry());
+        member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("$2a$10$old")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+    }
+
+    @DisplayName("저장된 해시가 현재 설정과 같으면 다시 해시하지 않는다.")
+    @Test
+    void rehashIfNeededUpToDate() {
+        given(passwordEncoder.upgradeEncoding("$2a$10$old")).willReturn(false);
+
+        passwordRehashService.rehashIfNeeded(member, "12345678");
+
+        then(passwordVerifier).should(never()).encodeInBackground(anyString(), any());
+    }
+
+    @DisplayName("저장된 해시의 비용이나 알고리즘이 다르면 백그라운드에서 다시 해시해 저장한다.")
+    @Test
+    void rehashIfNeeded() {
+        given(passwordEncoder.upgradeEncoding("$2a$10$old")).willReturn(true);
+        given(passwordVerifier.encodeInBackground(anyString(), any())).willAnswer(invocation -> {
+            Consumer<String> callback = invocation.getArgument(1);
+            callback.accept("{bcrypt}$2a$12$new");
+            return true;
+        });
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<Integer> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        given(memberRepository.modifyPassword(1L, "$2a$10$old", "{bcrypt}$2a$12$new")).willReturn(1);
+
+        passwordRehashService.rehashIfNeeded(member, "12345678");
+
+        then(memberRepository).should().modifyPassword(1L, "$2a$10$old", "{bcrypt}$2a$12$new");
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.backend.domain.auth.service;
+
+import com.backend.domain.auth.exception.LoginBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordVerifierTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordVerifier passwordVerifier;
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @DisplayName("비밀번호 검증을 전용 스레드에서 수행하고 결과를 응답한다.")
+    @Test
+    void matches() {
+        passwordVerifier = new PasswordVerifier(passwordEncoder,
+                new PasswordVerifierProperties(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+        given(passwordEncoder.matches("12345678", "encoded-password")).willReturn(true);
+
+        assertThat(passwordVerifier.matches("12345678", "encoded-password")).isTrue();
+    }
+
+    @DisplayName("대기열이 가득 차면 비밀번호 검증을 거절한다.")
+    @Test
+    void matchesQueueFull() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordVerifier = new PasswordVerifier(passwordEncoder,
+                new PasswordVerifierProperties(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3)), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(passwordEncoder.matches(anyString(), eq("encoded-password"))).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("a", "encoded-password"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("b", "encoded-password"));
+        while (meterRegistry.get("board.auth.password.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> passwordVerifier.matches("c", "encoded-password"))
+                .isInstanceOf(LoginBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("board.auth.password.rejected").counter().count()).isEqualTo(1);
+    }
+
+}
@@ -1,29 +1,46 @@
 package com.backend.domain.auth.service;
 
+import com.backend.domain.auth.bloom.RevokedTokenFilter;
+import com.backend.domain.auth.cache.TokenEpochCache;
+import com.backend.domain.auth.dto.DeviceSession;
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.auth.dto.SessionItem;
 import com.backend.domain.auth.dto.TokenResponse;
 import com.backend.domain.auth.exception.ExpiredTokenException;
 import com.backend.domain.auth.exception.InvalidTokenException;
+import com.backend.domain.auth.exception.NotFoundSessionException;
 import com.backend.domain.auth.exception.NotFoundTokenException;
+import com.backend.domain.auth.exception.ReusedRefreshTokenException;
+import com.backend.domain.auth.repository.RefreshTokenRotation;
+import com.backend.domain.auth.repository.SessionRepository;
+import com.backend.domain.auth.repository.TokenEpochRepository;
 import com.backend.domain.auth.repository.TokenRepository;
 import com.backend.domain.auth.token.TokenManager;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -37,113 +54,377 @@ class TokenServiceTest {
     @Mock
     private TokenRepository tokenRepository;
 
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
+    @Mock
+    private TokenEpochRepository tokenEpochRepository;
+
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+
     @InjectMocks
     private TokenService tokenService;
 
-    @DisplayName("refresh token을 저장한 후 access token과 refresh token을 발급한다.")
+    @DisplayName("새 기기 세션을 저장한 후 access token과 refresh token을 발급한다.")
     @Test
     void tokenIssue() {
-        given(tokenManager.createAccessToken(anyString(), anyString())).willReturn("access-token");
-        given(tokenManager.createRefreshToken(anyString())).willReturn("refresh-token");
-        willDoNothing().given(tokenRepository).add(anyString(), anyString(), anyLong());
+        given(tokenManager.createAccessToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("access-token");
+        given(tokenManager.createRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("refresh-token");
+        given(tokenManager.validateToken("refresh-token")).willReturn(claims("refresh-jti", 10000000L));
+        given(tokenEpochRepository.find(1L)).willReturn(7L);
 
-        TokenResponse tokenResponse = tokenService.issueToken("yoon1234", "ROLE_MEMBER");
+        TokenResponse tokenResponse = tokenService.issueToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "Mozilla/5.0", null);
 
+        ArgumentCaptor<DeviceSession> deviceSession = ArgumentCaptor.forClass(DeviceSession.class);
         assertThat(tokenResponse.getAccessToken()).isEqualTo("access-token");
         assertThat(tokenResponse.getRefreshToken()).isEqualTo("refresh-token");
-        then(tokenManager).should().createAccessToken(anyString(), anyString());
-        then(tokenManager).should().createRefreshToken(anyString());
-        then(tokenRepository).should().add(anyString(), anyString(), anyLong());
+        then(sessionRepository).should().save(eq(1L), deviceSession.capture(), anyLong());
+        assertThat(deviceSession.getValue().getDevice()).isEqualTo("Mozilla/5.0");
+        assertThat(deviceSession.getValue().getRefreshTokenId()).isEqualTo("refresh-jti");
+        then(tokenManager).should().createAccessToken(anyLong(), anyString(), anyString(), anyString(), anyString(), eq(7L));
+        then(tokenManager).should().createRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyString(), eq(7L));
+    }
+
+    @DisplayName("세션이 남아 있는 기기 ID를 보내면 같은 기기 ID로 발급하고 이전 refresh token을 폐기한다.")
+    @Test
+    void tokenIssueReuseDevice() {
+        long now = System.currentTimeMillis();
+        DeviceSession previousSession = new DeviceSession("device-id", "Mozilla/5.0", "old-refresh-jti", now - 1000, now + 100000);
+
+        given(sessionRepository.find(1L, "device-id")).willReturn(Optional.of(previousSession));
+        given(tokenManager.createAccessToken(anyLong(), anyString(), anyString(), anyString(), eq("device-id"), anyLong())).willReturn("access-token");
+        given(tokenManager.createRefreshToken(anyLong(), anyString(), anyString(), anyString(), eq("device-id"), anyLong())).willReturn("refresh-token");
+        given(tokenManager.validateToken("refresh-token")).willReturn(claims("refresh-jti", 10000000L));
+
+        tokenService.issueToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "Mozilla/5.0", "device-id");
+
+        ArgumentCaptor<DeviceSession> deviceSession = ArgumentCaptor.forClass(DeviceSession.class);
+        then(sessionRepository).should().save(eq(1L), deviceSession.capture(), anyLong());
+        assertThat(deviceSession.getValue().getDeviceId()).isEqualTo("device-id");
+        then(tokenRepository).should().addBlackList(eq("old-refresh-jti"), anyLong());
+        then(revokedTokenFilter).should().add("old-refresh-jti");
     }
 
-    @DisplayName("refresh token을 삭제하고 access token과 refresh token을 blacklist로 등록한다.")
+    @DisplayName("최대 기기 수를 넘어 밀려난 기기의 토큰을 폐기한다.")
+    @Test
+    void tokenIssueEvictDevice() {
+        given(tokenManager.createAccessToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("access-token");
+        given(tokenManager.createRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("refresh-token");
+        given(tokenManager.validateToken("refresh-token")).willReturn(claims("refresh-jti", 10000000L));
+        given(sessionRepository.save(eq(1L), any(DeviceSession.class), anyLong()))
+                .willReturn(List.of("old-device-id"));
+
+        tokenService.issueToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "Mozilla/5.0", null);
+
+        then(tokenRepository).should().addBlackList(eq("old-device-id"), anyLong());
+        then(revokedTokenFilter).should().add("old-device-id");
+        then(sessionRepository).should(never()).find(anyLong(), anyString());
+    }
+
+    @DisplayName("저장된 refresh token과 일치하면 새 토큰을 발급하고 refresh token을 교체한다.")
+    @Test
+    void tokenRefresh() {
+        given(tokenManager.validateToken("refresh-token")).willReturn(refreshClaims());
+        given(tokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L)).willReturn("new-access-token");
+        given(tokenManager.createRefreshToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L)).willReturn("new-refresh-token");
+        given(tokenManager.validateToken("new-refresh-token")).willReturn(claims("new-refresh-jti", 10000000L));
+        given(sessionRepository.rotate(eq(1L), eq("device-id"), eq("refresh-jti"), eq("new-refresh-jti"), anyLong(), anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
+
+        TokenResponse tokenResponse = tokenService.refreshToken("refresh-token");
+
+        assertThat(tokenResponse.getAccessToken()).isEqualTo("new-access-token");
+        assertThat(tokenResponse.getRefreshToken()).isEqualTo("new-refresh-token");
+        then(tokenRepository).should(never()).addBlackList(anyString(), anyLong());
+    }
+
+    @DisplayName("이미 교체된 refresh token을 다시 사용하면 기기 세션을 폐기하고 예외가 발생한다.")
+    @Test
+    void tokenRefreshReused() {
+        given(tokenManager.validateToken("refresh-token")).willReturn(refreshClaims());
+        given(tokenManager.createAccessToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("new-access-token");
+        given(tokenManager.createRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("new-refresh-token");
+        given(tokenManager.validateToken("new-refresh-token")).willReturn(claims("new-refresh-jti", 10000000L));
+        given(sessionRepository.rotate(anyLong(), anyString(), anyString(), anyString(), anyLong(), anyLong()))
+                .willReturn(RefreshTokenRotation.REUSED);
+
+        assertThatThrownBy(() -> tokenService.refreshToken("refresh-token"))
+                .isInstanceOf(ReusedRefreshTokenException.class);
+
+        then(tokenRepository).should().addBlackList(eq("device-id"), anyLong());
+        then(revokedTokenFilter).should().add("device-id");
+    }
+
+    @DisplayName("저장된 기기 세션이 없으면 refresh token 재발급 시 예외가 발생한다.")
+    @Test
+    void tokenRefreshNotFound() {
+        given(tokenManager.validateToken("refresh-token")).willReturn(refreshClaims());
+        given(tokenManager.createAccessToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("new-access-token");
+        given(tokenManager.createRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyString(), anyLong())).willReturn("new-refresh-token");
+        given(tokenManager.validateToken("new-refresh-token")).willReturn(claims("new-refresh-jti", 10000000L));
+        given(sessionRepository.rotate(anyLong(), anyString(), anyString(), anyString(), anyLong(), anyLong()))
+                .willReturn(RefreshTokenRotation.NOT_FOUND);
+
+        assertThatThrownBy(() -> tokenService.refreshToken("refresh-token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        then(tokenRepository).should(never()).addBlackList(anyString(), anyLong());
+    }
+
+    @DisplayName("access token으로 재발급을 요청하면 예외가 발생한다.")
+    @Test
+    void tokenRefreshAccessToken() {
+        given(tokenManager.validateToken("access-token")).willReturn(claims("access-jti", 100000L));
+
+        assertThatThrownBy(() -> tokenService.refreshToken("access-token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        then(sessionRepository).should(never()).rotate(anyLong(), anyString(), anyString(), anyString(), anyLong(), anyLong());
+    }
+
+    @DisplayName("로그아웃하면 기기 세션을 삭제하고 기기와 refresh token의 jti를 blacklist로 등록한다.")
     @Test
     void tokenDelete() {
-        given(tokenRepository.findByUsername(anyString())).willReturn(Optional.of("refresh-token"));
-        willDoNothing().given(tokenRepository).deleteByUsername(anyString());
-        given(tokenManager.getAccessTokenExpire()).willReturn(100000L);
-        given(tokenManager.getRefreshTokenExpire()).willReturn(10000000L);
-        willDoNothing().given(tokenRepository).addBlackList(anyString(), anyLong());
+        DeviceSession deviceSession = deviceSession("device-id", System.currentTimeMillis() + 10000000L);
+
+        given(sessionRepository.delete(1L, "device-id")).willReturn(Optional.of(deviceSession));
 
-        tokenService.deleteToken("access-token", "yoon1234");
+        tokenService.deleteToken("access-token", loginMember("device-id"));
 
-        then(tokenRepository).should().findByUsername(anyString());
-        then(tokenRepository).should().deleteByUsername(anyString());
-        then(tokenRepository).should(times(2)).addBlackList(anyString(), anyLong());
+        then(tokenRepository).should().addBlackList(eq("device-id"), anyLong());
+        then(tokenRepository).should().addBlackList(eq("refresh-jti"), anyLong());
+        then(revokedTokenFilter).should().add("device-id");
+        then(revokedTokenFilter).should().add("refresh-jti");
     }
 
-    @DisplayName("refresh token 삭제 시 access token이 null이면 예외가 발생한다.")
+    @DisplayName("기기 정보가 없는 기존 토큰으로 로그아웃하면 이전 형식의 refresh token을 삭제한다.")
+    @Test
+    void tokenDeleteLegacy() {
+        given(tokenRepository.findLegacyRefreshToken(anyString())).willReturn(Optional.of("refresh-token"));
+        given(tokenManager.validateToken("access-token")).willReturn(claims("access-jti", 100000L));
+        willThrow(new ExpiredTokenException()).given(tokenManager).validateToken("refresh-token");
+
+        tokenService.deleteToken("access-token", loginMember(null));
+
+        then(tokenRepository).should().deleteLegacyRefreshToken("yoon1234");
+        then(tokenRepository).should(times(1)).addBlackList(anyString(), anyLong());
+        then(revokedTokenFilter).should(times(1)).add(anyString());
+    }
+
+    @DisplayName("로그아웃 시 access token이 null이면 예외가 발생한다.")
     @Test
     void tokenDeleteAccessTokenNull() {
-        assertThatThrownBy(() -> tokenService.deleteToken(null, "yoon1234"))
+        assertThatThrownBy(() -> tokenService.deleteToken(null, loginMember("device-id")))
                 .isInstanceOf(NotFoundTokenException.class);
 
-        then(tokenRepository).should(never()).findByUsername(anyString());
-        then(tokenRepository).should(never()).deleteByUsername(anyString());
-        then(tokenRepository).should(times(0)).addBlackList(anyString(), anyLong());
+        then(sessionRepository).should(never()).delete(anyLong(), anyString());
+        then(tokenRepository).should(never()).addBlackList(anyString(), anyLong());
     }
 
-    @DisplayName("refresh token 삭제 시 refresh token이 null이면 예외가 발생한다.")
+    @DisplayName("로그아웃 시 기기 세션이 없으면 예외가 발생한다.")
     @Test
-    void tokenDeleteRefreshTokenNull() {
-        willThrow(new NotFoundTokenException()).given(tokenRepository).findByUsername(anyString());
+    void tokenDeleteSessionNotFound() {
+        given(sessionRepository.delete(1L, "device-id")).willReturn(Optional.empty());
 
-        assertThatThrownBy(() -> tokenService.deleteToken("access-token", "yoon1234"))
+        assertThatThrownBy(() -> tokenService.deleteToken("access-token", loginMember("device-id")))
                 .isInstanceOf(NotFoundTokenException.class);
 
-        then(tokenRepository).should().findByUsername(anyString());
-        then(tokenRepository).should(never()).deleteByUsername(anyString());
-        then(tokenRepository).should(times(0)).addBlackList(anyString(), anyLong());
+        then(tokenRepository).should(never()).addBlackList(anyString(), anyLong());
+    }
+
+    @DisplayName("모든 기기에서 로그아웃하면 토큰 epoch를 올리고 기기 세션을 모두 삭제한다.")
+    @Test
+    void deleteAllTokens() {
+        tokenService.deleteAllTokens(1L);
+
+        then(tokenEpochCache).should().bump(eq(1L), anyLong());
+        then(sessionRepository).should().deleteAll(1L);
+        then(tokenRepository).should(never()).addBlackList(anyString(), anyLong());
+    }
+
+    @DisplayName("로그인한 기기 목록을 조회하고 현재 기기를 표시한다.")
+    @Test
+    void findSessions() {
+        long expiresAt = System.currentTimeMillis() + 10000000L;
+
+        given(sessionRepository.findAll(1L)).willReturn(List.of(
+                deviceSession("device-id", expiresAt),
+                deviceSession("other-device-id", expiresAt)
+        ));
+
+        List<SessionItem> sessions = tokenService.findSessions(loginMember("device-id"));
+
+        assertThat(sessions).extracting(SessionItem::getDeviceId).containsExactly("device-id", "other-device-id");
+        assertThat(sessions).extracting(SessionItem::isCurrent).containsExactly(true, false);
+    }
+
+    @DisplayName("다른 기기의 세션을 삭제하면 해당 기기의 토큰을 모두 폐기한다.")
+    @Test
+    void deleteSession() {
+        given(sessionRepository.delete(1L, "other-device-id"))
+                .willReturn(Optional.of(deviceSession("other-device-id", System.currentTimeMillis() + 10000000L)));
+
+        tokenService.deleteSession(1L, "other-device-id");
+
+        then(tokenRepository).should().addBlackList(eq("other-device-id"), anyLong());
+        then(tokenRepository).should().addBlackList(eq("refresh-jti"), anyLong());
     }
 
-    @DisplayName("토큰의 blacklist 등록 여부와 유효성 검증을 한다.")
+    @DisplayName("존재하지 않는 기기의 세션을 삭제하면 예외가 발생한다.")
+    @Test
+    void deleteSessionNotFound() {
+        given(sessionRepository.delete(1L, "other-device-id")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> tokenService.deleteSession(1L, "other-device-id"))
+                .isInstanceOf(NotFoundSessionException.class);
+    }
+
+    @DisplayName("토큰의 유효성과 jti의 blacklist 등록 여부를 검증한다.")
     @Test
     void validateToken() {
-        given(tokenRepository.isBlocked(anyString())).willReturn(false);
-        willDoNothing().given(tokenManager).validateToken(anyString());
+        given(tokenManager.validateToken(anyString())).willReturn(claims("access-jti", 100000L));
+        given(revokedTokenFilter.mightContain("access-jti")).willReturn(true);
+        given(tokenRepository.isBlocked("access-jti")).willReturn(false);
+
+        Claims actual = tokenService.validateToken("access-token");
+
+        assertThat(actual.getSubject()).isEqualTo("yoon1234");
+        then(tokenRepository).should().isBlocked("access-jti");
+        then(tokenRepository).should(never()).isLegacyBlocked(anyString());
+    }
+
+    @DisplayName("폐기 토큰 필터에 없는 토큰은 Redis에 blacklist 등록 여부를 묻지 않는다.")
+    @Test
+    void validateTokenNotRevoked() {
+        given(tokenManager.validateToken(anyString())).willReturn(claims("access-jti", 100000L));
+        given(revokedTokenFilter.mightContain(anyString())).willReturn(false);
 
         tokenService.validateToken("access-token");
 
-        then(tokenRepository).should().isBlocked(anyString());
-        then(tokenManager).should().validateToken(anyString());
+        then(tokenRepository).should(never()).isBlocked(anyString());
     }
 
     @DisplayName("토큰 검증 시 토큰이 blacklist에 등록되어 있으면 예외가 발생한다.")
     @Test
     void validateTokenBlackListToken() {
-        given(tokenRepository.isBlocked(anyString())).willReturn(true);
+        given(tokenManager.validateToken(anyString())).willReturn(claims("access-jti", 100000L));
+        given(revokedTokenFilter.mightContain(anyString())).willReturn(true);
+        given(tokenRepository.isBlocked("access-jti")).willReturn(true);
 
-        assertThatThrownBy(() ->tokenService.validateToken("access-token"))
+        assertThatThrownBy(() -> tokenService.validateToken("access-token"))
                 .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("refresh token으로 인증하면 예외가 발생한다.")
+    @Test
+    void validateTokenRefreshToken() {
+        given(tokenManager.validateToken(anyString())).willReturn(refreshClaims());
 
-        then(tokenRepository).should().isBlocked(anyString());
-        then(tokenManager).should(never()).validateToken(anyString());
+        assertThatThrownBy(() -> tokenService.validateToken("refresh-token"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("폐기된 기기의 access token으로 인증하면 예외가 발생한다.")
+    @Test
+    void validateTokenRevokedFamily() {
+        given(tokenManager.validateToken(anyString())).willReturn(Jwts.claims()
+                .id("access-jti")
+                .subject("yoon1234")
+                .add("typ", TokenManager.ACCESS_TOKEN_TYPE)
+                .add("did", "device-id")
+                .build());
+        given(revokedTokenFilter.mightContain("access-jti")).willReturn(false);
+        given(revokedTokenFilter.mightContain("device-id")).willReturn(true);
+        given(tokenRepository.isBlocked("device-id")).willReturn(true);
+
+        assertThatThrownBy(() -> tokenService.validateToken("access-token"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("토큰의 epoch가 회원의 현재 epoch보다 낮으면 예외가 발생한다.")
+    @Test
+    void validateTokenStaleEpoch() {
+        given(tokenManager.validateToken(anyString())).willReturn(Jwts.claims()
+                .id("access-jti")
+                .subject("yoon1234")
+                .add("typ", TokenManager.ACCESS_TOKEN_TYPE)
+                .add("memberId", 1L)
+                .add("epc", 5L)
+                .build());
+        given(tokenEpochCache.get(1L)).willReturn(10L);
+
+        assertThatThrownBy(() -> tokenService.validateToken("access-token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        then(tokenRepository).should(never()).isBlocked(anyString());
+    }
+
+    @DisplayName("jti가 없는 기존 토큰은 이전 형식의 blacklist도 확인한다.")
+    @Test
+    void validateTokenLegacyBlackListToken() {
+        given(tokenManager.validateToken(anyString())).willReturn(claims(null, 100000L));
+        given(revokedTokenFilter.mightContain(anyString())).willReturn(true);
+        given(tokenRepository.isBlocked("access-token")).willReturn(false);
+        given(tokenRepository.isLegacyBlocked("access-token")).willReturn(true);
+
+        assertThatThrownBy(() -> tokenService.validateToken("access-token"))
+                .isInstanceOf(InvalidTokenException.class);
     }
 
     @DisplayName("토큰 검증 시 토큰이 만료되면 예외가 발생한다.")
     @Test
     void validateTokenExpiredToken() {
-        given(tokenRepository.isBlocked(anyString())).willReturn(false);
         willThrow(new ExpiredTokenException()).given(tokenManager).validateToken(anyString());
 
         assertThatThrownBy(() -> tokenService.validateToken("access-token"))
                 .isInstanceOf(ExpiredTokenException.class);
 
-        then(tokenRepository).should().isBlocked(anyString());
-        then(tokenManager).should().validateToken(anyString());
+        then(tokenRepository).should(never()).isBlocked(anyString());
     }
 
     @DisplayName("토큰 검증 시 토큰이 유효하지 않으면 예외가 발생한다.")
     @Test
     void validateTokenInvalidToken() {
-        given(tokenRepository.isBlocked(anyString())).willReturn(false);
         willThrow(new InvalidTokenException()).given(tokenManager).validateToken(anyString());
 
         assertThatThrownBy(() -> tokenService.validateToken("access-token"))
                 .isInstanceOf(InvalidTokenException.class);
 
-        then(tokenRepository).should().isBlocked(anyString());
-        then(tokenManager).should().validateToken(anyString());
+        then(tokenRepository).should(never()).isBlocked(anyString());
+    }
+
+    private LoginMember loginMember(String deviceId) {
+        return new LoginMember(1L, "yoon1234", "yoonkun", deviceId);
+    }
+
+    private DeviceSession deviceSession(String deviceId, long expiresAt) {
+        return new DeviceSession(deviceId, "Mozilla/5.0", "refresh-jti", System.currentTimeMillis(), expiresAt);
+    }
+
+    private Claims refreshClaims() {
+        return Jwts.claims()
+                .id("refresh-jti")
+                .subject("yoon1234")
+                .add("typ", TokenManager.REFRESH_TOKEN_TYPE)
+                .add("did", "device-id")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
+                .add("authority", "ROLE_MEMBER")
+                .expiration(new Date(System.currentTimeMillis() + 10000000L))
+                .build();
+    }
+
+    private Claims claims(String jti, long expire) {
+        return Jwts.claims()
+                .id(jti)
+                .subject("yoon1234")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + expire))
+                .build();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.backend.domain.auth.token;
+
+import com.backend.domain.auth.exception.ExpiredTokenException;
+import com.backend.domain.auth.exception.InvalidTokenException;
+
+import io.jsonwebtoken.Claims;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenManagerTest {
+
+    private static final String SECRET_KEY = "test-secret-key-test-secret-key-test-secret-key";
+
+    private TokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        tokenManager = new TokenManager(new TokenProperties(SECRET_KEY, 1800000, 86400000, 100), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("토큰을 한 번 검증하고 검증된 클레임을 캐시에서 재사용한다.")
+    @Test
+    void validateToken() {
+        String accessToken = tokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+
+        Claims claims = tokenManager.validateToken(accessToken);
+
+        assertThat(claims.getSubject()).isEqualTo("yoon1234");
+        assertThat(claims.get("memberId", Long.class)).isEqualTo(1L);
+        assertThat(tokenManager.validateToken(accessToken)).isSameAs(claims);
+    }
+
+    @DisplayName("토큰마다 서로 다른 jti를 발급한다.")
+    @Test
+    void createTokenId() {
+        String accessToken = tokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+        String refreshToken = tokenManager.createRefreshToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+
+        String accessTokenId = tokenManager.validateToken(accessToken).getId();
+        String refreshTokenId = tokenManager.validateToken(refreshToken).getId();
+
+        assertThat(accessTokenId).isNotBlank();
+        assertThat(refreshTokenId).isNotBlank();
+        assertThat(accessTokenId).isNotEqualTo(refreshTokenId);
+    }
+
+    @DisplayName("만료된 토큰을 검증하면 예외가 발생한다.")
+    @Test
+    void validateTokenExpired() {
+        TokenManager expiredTokenManager = new TokenManager(new TokenProperties(SECRET_KEY, -1000, -1000, 100), new SimpleMeterRegistry());
+        String accessToken = expiredTokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+
+        assertThatThrownBy(() -> tokenManager.validateToken(accessToken))
+                .isInstanceOf(ExpiredTokenException.class);
+    }
+
+    @DisplayName("서명이 변조된 토큰을 검증하면 예외가 발생한다.")
+    @Test
+    void validateTokenInvalid() {
+        String accessToken = tokenManager.createAccessToken(1L, "yoon1234", "yoonkun", "ROLE_MEMBER", "device-id", 0L);
+
+        assertThatThrownBy(() -> tokenManager.validateToken(accessToken + "x"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.backend.domain.comment.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.comment.dto.CommentCursorResponse;
 import com.backend.domain.comment.dto.CommentItem;
 import com.backend.domain.comment.dto.CommentListResponse;
 import com.backend.domain.comment.dto.CommentModifyRequest;
@@ -9,6 +11,8 @@ import com.backend.domain.comment.exception.AccessDeniedModifyCommentException;
 import com.backend.domain.comment.exception.NotFoundCommentException;
 import com.backend.domain.comment.service.CommentService;
 import com.backend.domain.post.exception.NotFoundPostException;
+import com.backend.domain.post.service.PostVersionService;
+import com.backend.global.common.web.ResourceVersion;
 import com.backend.global.error.exception.ErrorType;
 import com.backend.support.ControllerTest;
 
@@ -26,14 +30,17 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -56,6 +63,9 @@ class CommentControllerTest extends ControllerTest {
     @MockitoBean
     private CommentService commentService;
 
+    @MockitoBean
+    private PostVersionService postVersionService;
+
     @DisplayName("댓글 목록 조회에 성공하면 200을 응답한다.")
     @Test
     void commentList() throws Exception {
@@ -109,18 +119,76 @@ class CommentControllerTest extends ControllerTest {
                 ));
     }
 
+    @DisplayName("댓글 목록 조회 시 댓글이 변경되지 않았으면 304를 응답한다.")
+    @Test
+    void commentListNotModified() throws Exception {
+        given(postVersionService.commentListVersion(1L, 1)).willReturn(Optional.of(ResourceVersion.weak("comments-1-page-1-100", 100L)));
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", 1)
+                        .param("page", "1")
+                        .header("If-None-Match", "W/\"comments-1-page-1-100\"")
+                )
+                .andExpect(status().isNotModified());
+
+        then(commentService).should(never()).commentList(anyLong(), anyInt());
+    }
+
+    @DisplayName("커서 기반 댓글 목록 조회에 성공하면 200을 응답한다.")
+    @Test
+    void commentListCursor() throws Exception {
+        List<CommentItem> comments = List.of(
+                new CommentItem(11L, "writer", "comment", LocalDateTime.now())
+        );
+        CommentCursorResponse commentCursorResponse = new CommentCursorResponse(comments, 11L, true);
+
+        given(commentService.commentListCursor(anyLong(), anyLong())).willReturn(commentCursorResponse);
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", 1)
+                        .param("after", "10")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.comments").isArray(),
+                        jsonPath("$.comments[0].commentId").value(11),
+                        jsonPath("$.comments[0].writer").value("writer"),
+                        jsonPath("$.comments[0].content").value("comment"),
+                        jsonPath("$.comments[0].createdAt").isNotEmpty(),
+                        jsonPath("$.nextCursor").value(11),
+                        jsonPath("$.next").value(true)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 번호")
+                        ),
+                        queryParameters(
+                                parameterWithName("after").description("이 댓글 번호 이후의 댓글부터 조회 (비어 있으면 첫 댓글부터)")
+                        ),
+                        responseFields(
+                                fieldWithPath("comments").type(JsonFieldType.ARRAY).description("댓글 목록"),
+                                fieldWithPath("comments[0].commentId").type(JsonFieldType.NUMBER).description("댓글번호"),
+                                fieldWithPath("comments[0].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("comments[0].content").type(JsonFieldType.STRING).description("내용"),
+                                fieldWithPath("comments[0].createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 목록 조회 시 after로 전달할 커서").optional(),
+                                fieldWithPath("next").type(JsonFieldType.BOOLEAN).description("다음 목록 존재 여부")
+                        )
+                ));
+    }
+
     @DisplayName("댓글 작성에 성공하면 200을 응답한다.")
     @Test
     void commentWrite() throws Exception {
         CommentWriteRequest commentWriteRequest = new CommentWriteRequest("comment");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
-        willDoNothing().given(commentService).commentWrite(anyLong(), anyString(), any(CommentWriteRequest.class));
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        willDoNothing().given(commentService).commentWrite(anyLong(), any(LoginMember.class), any(CommentWriteRequest.class));
 
         mockMvc.perform(post("/api/posts/{postId}/comments/write", 1)
                         .header("Authorization", "Bearer access-token")
@@ -148,11 +216,12 @@ class CommentControllerTest extends ControllerTest {
         CommentWriteRequest commentWriteRequest = new CommentWriteRequest("");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
 
         mockMvc.perform(post("/api/posts/{postId}/comments/write", 1)
                         .header("Authorization", "Bearer access-token")
@@ -176,12 +245,13 @@ class CommentControllerTest extends ControllerTest {
         CommentWriteRequest commentWriteRequest = new CommentWriteRequest("comment");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
-        willThrow(new NotFoundPostException()).given(commentService).commentWrite(anyLong(), anyString(), any(CommentWriteRequest.class));
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        willThrow(new NotFoundPostException()).given(commentService).commentWrite(anyLong(), any(LoginMember.class), any(CommentWriteRequest.class));
 
         mockMvc.perform(post("/api/posts/{postId}/comments/write", 1)
                         .header("Authorization", "Bearer access-token")
@@ -244,11 +314,12 @@ class CommentControllerTest extends ControllerTest {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willDoNothing().given(commentService).commentModify(anyLong(), anyLong(), anyString(), any(CommentModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}/comments/{commentId}", 1, 1)
@@ -278,11 +349,12 @@ class CommentControllerTest extends ControllerTest {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
 
         mockMvc.perform(put("/api/posts/{postId}/comments/{commentId}", 1, 1)
                         .header("Authorization", "Bearer access-token")
@@ -306,11 +378,12 @@ class CommentControllerTest extends ControllerTest {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new NotFoundCommentException()).given(commentService).commentModify(anyLong(), anyLong(), anyString(), any(CommentModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}/comments/{commentId}", 1, 1)
@@ -374,11 +447,12 @@ class CommentControllerTest extends ControllerTest {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new AccessDeniedModifyCommentException()).given(commentService).commentModify(anyLong(), anyLong(), anyString(), any(CommentModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}/comments/{commentId}", 1, 1)
@@ -399,11 +473,12 @@ class CommentControllerTest extends ControllerTest {
     void commentDelete() throws Exception {
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willDoNothing().given(commentService).commentDelete(anyLong(), anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", 1, 1)
@@ -427,11 +502,12 @@ class CommentControllerTest extends ControllerTest {
     void commentDeleteNotFoundComment() throws Exception {
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new NotFoundCommentException()).given(commentService).commentDelete(anyLong(), anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", 1, 1)
@@ -486,11 +562,12 @@ class CommentControllerTest extends ControllerTest {
     void commentDeleteAccessDenied() throws Exception {
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new AccessDeniedDeleteCommentException()).given(commentService).commentDelete(anyLong(), anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", 1, 1)
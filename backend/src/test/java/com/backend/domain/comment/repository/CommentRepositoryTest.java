@@ -21,10 +21,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -84,7 +86,7 @@ class CommentRepositoryTest {
     @ParameterizedTest
     @MethodSource("nullFieldsComment")
     void commentSaveNullFields(Comment comment) {
-        assertThatThrownBy(() -> commentRepository.save(comment))
+        assertThatThrownBy(() -> commentRepository.saveAndFlush(comment))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
@@ -156,16 +158,108 @@ class CommentRepositoryTest {
                 .build();
         commentRepository.save(comment);
 
-        Page<Comment> commentPage = commentRepository.findAllByPostId(savePost.getId(), PageRequest.of(0, 10, Sort.Direction.ASC, "id"));
+        List<Comment> comments = commentRepository.findAllByPostId(savePost.getId(), PageRequest.of(0, 10, Sort.Direction.ASC, "id"));
 
-        assertThat(commentPage.getContent()).isNotEmpty();
-        assertThat(commentPage.getNumber()).isEqualTo(0);
-        assertThat(commentPage.getTotalPages()).isEqualTo(1);
-        assertThat(commentPage.getTotalElements()).isEqualTo(1);
-        assertThat(commentPage.isFirst()).isTrue();
-        assertThat(commentPage.isLast()).isTrue();
-        assertThat(commentPage.hasPrevious()).isFalse();
-        assertThat(commentPage.hasNext()).isFalse();
+        assertThat(comments).hasSize(1);
+        assertThat(comments.get(0).getContent()).isEqualTo("comment");
     }
 
-}
\ No newline at end of file
+    @DisplayName("커서 이후의 댓글 목록을 기본키 오름차순으로 조회한다.")
+    @Test
+    void commentFindAllByPostIdAfter() {
+        Comment first = commentRepository.save(new Comment("yoonkun", "comment1", saveMember, savePost));
+        Comment second = commentRepository.save(new Comment("yoonkun", "comment2", saveMember, savePost));
+        commentRepository.save(new Comment("yoonkun", "comment3", saveMember, savePost));
+
+        Slice<Comment> commentSlice = commentRepository.findAllByPostIdAfter(savePost.getId(), first.getId(), PageRequest.of(0, 1));
+
+        assertThat(commentSlice.getContent()).hasSize(1);
+        assertThat(commentSlice.getContent().get(0).getId()).isEqualTo(second.getId());
+        assertThat(commentSlice.hasNext()).isTrue();
+    }
+
+    @DisplayName("삭제 상태인 게시글의 댓글 목록은 조회되지 않는다.")
+    @Test
+    void commentFindAllOnDeletedPost() {
+        commentRepository.save(new Comment("yoonkun", "comment1", saveMember, savePost));
+        commentRepository.save(new Comment("yoonkun", "comment2", saveMember, savePost));
+        postRepository.softDeleteByIdAndUsername(savePost.getId(), "yoon1234", LocalDateTime.now());
+
+        List<Comment> comments = commentRepository.findAllByPostId(savePost.getId(), PageRequest.of(0, 10, Sort.Direction.ASC, "id"));
+        Slice<Comment> commentSlice = commentRepository.findAllByPostIdAfter(savePost.getId(), 0L, PageRequest.of(0, 10));
+
+        assertThat(comments).isEmpty();
+        assertThat(commentSlice.getContent()).isEmpty();
+    }
+
+    @DisplayName("게시글 기본키를 외래키로 가지고 있는 댓글 개수를 조회한다.")
+    @Test
+    void commentCountByPostId() {
+        Comment comment = Comment.builder()
+                .writer("yoonkun")
+                .content("comment")
+                .member(saveMember)
+                .post(savePost)
+                .build();
+        commentRepository.save(comment);
+
+        long commentCount = commentRepository.countByPostId(savePost.getId());
+
+        assertThat(commentCount).isEqualTo(1);
+    }
+
+    @DisplayName("작성자인 경우에만 댓글을 수정한다.")
+    @Test
+    void commentModifyByPostIdAndCommentIdAndUsername() {
+        Comment saveComment = commentRepository.save(new Comment("yoonkun", "comment", saveMember, savePost));
+
+        int notOwnerModified = commentRepository.modifyByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoonyoon", "modify", LocalDateTime.now());
+        int ownerModified = commentRepository.modifyByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoon1234", "modify", LocalDateTime.now());
+        em.clear();
+
+        Comment findComment = commentRepository.findById(saveComment.getId()).get();
+        assertThat(notOwnerModified).isEqualTo(0);
+        assertThat(ownerModified).isEqualTo(1);
+        assertThat(findComment.getContent()).isEqualTo("modify");
+    }
+
+    @DisplayName("작성자인 경우에만 댓글을 삭제한다.")
+    @Test
+    void commentDeleteByPostIdAndCommentIdAndUsername() {
+        Comment saveComment = commentRepository.save(new Comment("yoonkun", "comment", saveMember, savePost));
+
+        int notOwnerDeleted = commentRepository.deleteByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoonyoon");
+        int ownerDeleted = commentRepository.deleteByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoon1234");
+
+        assertThat(notOwnerDeleted).isEqualTo(0);
+        assertThat(ownerDeleted).isEqualTo(1);
+        assertThat(commentRepository.existsByIdAndPostId(saveComment.getId(), savePost.getId())).isFalse();
+    }
+
+    @DisplayName("삭제 상태인 게시글의 댓글은 수정하거나 삭제할 수 없다.")
+    @Test
+    void commentModifyAndDeleteOnDeletedPost() {
+        Comment saveComment = commentRepository.save(new Comment("yoonkun", "comment", saveMember, savePost));
+        postRepository.softDeleteByIdAndUsername(savePost.getId(), "yoon1234", LocalDateTime.now());
+
+        int modified = commentRepository.modifyByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoon1234", "modify", LocalDateTime.now());
+        int deleted = commentRepository.deleteByPostIdAndCommentIdAndUsername(savePost.getId(), saveComment.getId(), "yoon1234");
+
+        assertThat(modified).isEqualTo(0);
+        assertThat(deleted).isEqualTo(0);
+        assertThat(commentRepository.existsByIdAndPostId(saveComment.getId(), savePost.getId())).isFalse();
+    }
+
+    @DisplayName("게시글의 댓글 기본키 목록을 오름차순으로 조회한다.")
+    @Test
+    void commentFindIdsByPostId() {
+        Comment first = commentRepository.save(new Comment("yoonkun", "comment1", saveMember, savePost));
+        Comment second = commentRepository.save(new Comment("yoonkun", "comment2", saveMember, savePost));
+        commentRepository.save(new Comment("yoonkun", "comment3", saveMember, savePost));
+
+        List<Long> commentIds = commentRepository.findIdsByPostId(savePost.getId(), PageRequest.of(0, 2));
+
+        assertThat(commentIds).containsExactly(first.getId(), second.getId());
+    }
+
+}
@@ -1,16 +1,21 @@
 package com.backend.domain.comment.service;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.comment.dto.CommentCursorResponse;
 import com.backend.domain.comment.dto.CommentListResponse;
 import com.backend.domain.comment.dto.CommentModifyRequest;
 import com.backend.domain.comment.dto.CommentWriteRequest;
 import com.backend.domain.comment.entity.Comment;
+import com.backend.domain.comment.event.CommentDeleteEvent;
+import com.backend.domain.comment.event.CommentModifyEvent;
+import com.backend.domain.comment.event.CommentWriteEvent;
 import com.backend.domain.comment.exception.AccessDeniedDeleteCommentException;
 import com.backend.domain.comment.exception.AccessDeniedModifyCommentException;
 import com.backend.domain.comment.exception.NotFoundCommentException;
 import com.backend.domain.comment.repository.CommentRepository;
 import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.exception.NotFoundMemberException;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.post.count.CountService;
 import com.backend.domain.post.entity.Post;
 import com.backend.domain.post.exception.NotFoundPostException;
 import com.backend.domain.post.repository.PostRepository;
@@ -24,21 +29,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +59,12 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CountService countService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -80,9 +92,9 @@ class CommentServiceTest {
         List<Comment> content = List.of(
                 new Comment("writer", "comment", member, post)
         );
-        PageImpl<Comment> commentPage = new PageImpl<>(content);
 
-        given(commentRepository.findAllByPostId(anyLong(), any(Pageable.class))).willReturn(commentPage);
+        given(commentRepository.findAllByPostId(anyLong(), any(Pageable.class))).willReturn(content);
+        given(countService.commentCount(anyLong())).willReturn(1L);
 
         CommentListResponse commentListResponse = commentService.commentList(1L, 1);
 
@@ -95,6 +107,38 @@ class CommentServiceTest {
         assertThat(commentListResponse.isPrev()).isFalse();
         assertThat(commentListResponse.isNext()).isFalse();
         then(commentRepository).should().findAllByPostId(anyLong(), any(Pageable.class));
+        then(countService).should().commentCount(anyLong());
+    }
+
+    @DisplayName("커서 기반으로 댓글 목록을 조회한다.")
+    @Test
+    void commentListCursor() {
+        Comment comment = new Comment("writer", "comment", member, post);
+        ReflectionTestUtils.setField(comment, "id", 11L);
+        SliceImpl<Comment> commentSlice = new SliceImpl<>(List.of(comment), Pageable.ofSize(10), true);
+
+        given(commentRepository.findAllByPostIdAfter(anyLong(), anyLong(), any(Pageable.class))).willReturn(commentSlice);
+
+        CommentCursorResponse commentCursorResponse = commentService.commentListCursor(1L, 10L);
+
+        assertThat(commentCursorResponse.getComments()).hasSize(1);
+        assertThat(commentCursorResponse.getNextCursor()).isEqualTo(11L);
+        assertThat(commentCursorResponse.isNext()).isTrue();
+        then(countService).should(never()).commentCount(anyLong());
+    }
+
+    @DisplayName("커서 없이 조회하면 첫 댓글부터 조회한다.")
+    @Test
+    void commentListCursorWithoutCursor() {
+        SliceImpl<Comment> commentSlice = new SliceImpl<>(List.of(), Pageable.ofSize(10), false);
+
+        given(commentRepository.findAllByPostIdAfter(anyLong(), anyLong(), any(Pageable.class))).willReturn(commentSlice);
+
+        CommentCursorResponse commentCursorResponse = commentService.commentListCursor(1L, null);
+
+        assertThat(commentCursorResponse.getNextCursor()).isNull();
+        assertThat(commentCursorResponse.isNext()).isFalse();
+        then(commentRepository).should().findAllByPostIdAfter(eq(1L), eq(0L), any(Pageable.class));
     }
 
     @DisplayName("댓글을 작성한다.")
@@ -108,15 +152,17 @@ class CommentServiceTest {
                 .post(post)
                 .build();
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(memberRepository.findByUsername(anyString())).willReturn(Optional.of(member));
+        given(postRepository.increaseCommentCount(anyLong())).willReturn(1);
+        given(postRepository.getReferenceById(anyLong())).willReturn(post);
+        given(memberRepository.getReferenceById(anyLong())).willReturn(member);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
 
-        commentService.commentWrite(1L, "yoon1234", commentWriteRequest);
+        commentService.commentWrite(1L, new LoginMember(1L, "yoon1234", "yoonkun", "device-id"), commentWriteRequest);
 
-        then(postRepository).should().findById(anyLong());
-        then(memberRepository).should().findByUsername(anyString());
+        then(postRepository).should(never()).findById(anyLong());
+        then(memberRepository).should(never()).findByUsername(anyString());
         then(commentRepository).should().save(any(Comment.class));
+        then(eventPublisher).should().publishEvent(any(CommentWriteEvent.class));
     }
 
     @DisplayName("댓글 작성 시 게시글이 존재하지 않으면 예외가 발생한다.")
@@ -124,48 +170,27 @@ class CommentServiceTest {
     void commentWriteNotFoundPost() {
         CommentWriteRequest commentWriteRequest = new CommentWriteRequest("comment");
 
-        willThrow(new NotFoundPostException()).given(postRepository).findById(anyLong());
+        given(postRepository.increaseCommentCount(anyLong())).willReturn(0);
 
-        assertThatThrownBy(() -> commentService.commentWrite(1L, "yoon1234", commentWriteRequest))
+        assertThatThrownBy(() -> commentService.commentWrite(1L, new LoginMember(1L, "yoon1234", "yoonkun", "device-id"), commentWriteRequest))
                 .isInstanceOf(NotFoundPostException.class);
 
-        then(postRepository).should().findById(anyLong());
-        then(memberRepository).should(never()).findByUsername(anyString());
-        then(commentRepository).should(never()).save(any(Comment.class));
-    }
-
-    @DisplayName("댓글 작성 시 회원이 존재하지 않으면 예외가 발생한다.")
-    @Test
-    void commentWriteNotFoundMember() {
-        CommentWriteRequest commentWriteRequest = new CommentWriteRequest("comment");
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        willThrow(new NotFoundMemberException()).given(memberRepository).findByUsername(anyString());
-
-        assertThatThrownBy(() -> commentService.commentWrite(1L, "yoon1234", commentWriteRequest))
-                .isInstanceOf(NotFoundMemberException.class);
-
-        then(postRepository).should().findById(anyLong());
-        then(memberRepository).should().findByUsername(anyString());
         then(commentRepository).should(never()).save(any(Comment.class));
+        then(eventPublisher).should(never()).publishEvent(any(CommentWriteEvent.class));
     }
 
     @DisplayName("댓글을 수정한다.")
     @Test
     void commentModify() {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
-        Comment comment = Comment.builder()
-                .writer(member.getNickname())
-                .content("comment")
-                .member(member)
-                .post(post)
-                .build();
 
-        given(commentRepository.findByPostIdAndCommentId(anyLong(), anyLong())).willReturn(Optional.of(comment));
+        given(commentRepository.modifyByPostIdAndCommentIdAndUsername(eq(1L), eq(1L), eq("yoon1234"), eq("comment"), any(LocalDateTime.class))).willReturn(1);
 
         commentService.commentModify(1L, 1L, "yoon1234", commentModifyRequest);
 
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
+        then(commentRepository).should(never()).findByPostIdAndCommentId(anyLong(), anyLong());
+        then(commentRepository).should(never()).existsByIdAndPostId(anyLong(), anyLong());
+        then(eventPublisher).should().publishEvent(any(CommentModifyEvent.class));
     }
 
     @DisplayName("댓글 수정 시 댓글이 존재하지 않으면 예외가 발생한다.")
@@ -173,83 +198,63 @@ class CommentServiceTest {
     void commentModifyNotFoundComment() {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
 
-        willThrow(new NotFoundCommentException()).given(commentRepository).findByPostIdAndCommentId(anyLong(), anyLong());
+        given(commentRepository.modifyByPostIdAndCommentIdAndUsername(anyLong(), anyLong(), anyString(), anyString(), any(LocalDateTime.class))).willReturn(0);
+        given(commentRepository.existsByIdAndPostId(1L, 1L)).willReturn(false);
 
         assertThatThrownBy(() -> commentService.commentModify(1L, 1L, "yoon1234", commentModifyRequest))
                 .isInstanceOf(NotFoundCommentException.class);
-
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
     }
 
     @DisplayName("댓글 수정 시 작성자가 아닌데 수정을 시도하면 예외가 발생한다.")
     @Test
     void commentModifyAccessDenied() {
         CommentModifyRequest commentModifyRequest = new CommentModifyRequest("comment");
-        Comment comment = Comment.builder()
-                .writer(member.getNickname())
-                .content("comment")
-                .member(member)
-                .post(post)
-                .build();
 
-        given(commentRepository.findByPostIdAndCommentId(anyLong(), anyLong())).willReturn(Optional.of(comment));
+        given(commentRepository.modifyByPostIdAndCommentIdAndUsername(anyLong(), anyLong(), anyString(), anyString(), any(LocalDateTime.class))).willReturn(0);
+        given(commentRepository.existsByIdAndPostId(1L, 1L)).willReturn(true);
 
         String notPostOwner = "yoonyoon";
         assertThatThrownBy(() -> commentService.commentModify(1L, 1L, notPostOwner, commentModifyRequest))
                 .isInstanceOf(AccessDeniedModifyCommentException.class);
-
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
     }
 
     @DisplayName("댓글을 삭제한다.")
     @Test
     void commentDelete() {
-        Comment comment = Comment.builder()
-                .writer(member.getNickname())
-                .content("comment")
-                .member(member)
-                .post(post)
-                .build();
-
-        given(commentRepository.findByPostIdAndCommentId(anyLong(), anyLong())).willReturn(Optional.of(comment));
-        willDoNothing().given(commentRepository).delete(any(Comment.class));
+        given(commentRepository.deleteByPostIdAndCommentIdAndUsername(1L, 1L, "yoon1234")).willReturn(1);
 
         commentService.commentDelete(1L, 1L, "yoon1234");
 
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
-        then(commentRepository).should().delete(any(Comment.class));
+        then(commentRepository).should(never()).findByPostIdAndCommentId(anyLong(), anyLong());
+        then(postRepository).should().decreaseCommentCount(1L);
+        then(eventPublisher).should().publishEvent(any(CommentDeleteEvent.class));
     }
 
     @DisplayName("댓글 삭제 시 댓글이 존재하지 않으면 예외가 발생한다.")
     @Test
     void commentDeleteNotFoundComment() {
-        willThrow(new NotFoundCommentException()).given(commentRepository).findByPostIdAndCommentId(anyLong(), anyLong());
+        given(commentRepository.deleteByPostIdAndCommentIdAndUsername(1L, 1L, "yoon1234")).willReturn(0);
+        given(commentRepository.existsByIdAndPostId(1L, 1L)).willReturn(false);
 
         assertThatThrownBy(() -> commentService.commentDelete(1L, 1L, "yoon1234"))
                 .isInstanceOf(NotFoundCommentException.class);
 
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
-        then(commentRepository).should(never()).delete(any(Comment.class));
+        then(postRepository).should(never()).decreaseCommentCount(anyLong());
     }
 
     @DisplayName("댓글 삭제 시 작성자가 아닌데 삭제를 시도하면 예외가 발생한다.")
     @Test
     void commentDeleteAccessDenied() {
-        Comment comment = Comment.builder()
-                .writer(member.getNickname())
-                .content("comment")
-                .member(member)
-                .post(post)
-                .build();
+        String notPostOwner = "yoonyoon";
 
-        given(commentRepository.findByPostIdAndCommentId(anyLong(), anyLong())).willReturn(Optional.of(comment));
+        given(commentRepository.deleteByPostIdAndCommentIdAndUsername(1L, 1L, notPostOwner)).willReturn(0);
+        given(commentRepository.existsByIdAndPostId(1L, 1L)).willReturn(true);
 
-        String notPostOwner = "yoonyoon";
         assertThatThrownBy(() -> commentService.commentDelete(1L, 1L, notPostOwner))
                 .isInstanceOf(AccessDeniedDeleteCommentException.class);
 
-        then(commentRepository).should().findByPostIdAndCommentId(anyLong(), anyLong());
-        then(commentRepository).should(never()).delete(any(Comment.class));
+        then(postRepository).should(never()).decreaseCommentCount(anyLong());
+        then(eventPublisher).should(never()).publishEvent(any(CommentDeleteEvent.class));
     }
 
-}
\ No newline at end of file
+}
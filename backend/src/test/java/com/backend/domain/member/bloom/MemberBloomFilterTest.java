@@ -0,0 +1,91 @@
+package com.backend.domain.member.bloom;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberSignupEvent;
+import com.backend.domain.member.repository.MemberRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class MemberBloomFilterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private MemberBloomFilter memberBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        MemberBloomFilterProperties properties = new MemberBloomFilterProperties(1000, 0.001, 1);
+        memberBloomFilter = new MemberBloomFilter(properties, memberRepository, stringRedisTemplate, redisMessageListenerContainer);
+    }
+
+    @DisplayName("구성이 끝나기 전에는 모든 이름을 있을 수 있다고 응답한다.")
+    @Test
+    void mightContainBeforeRebuild() {
+        assertThat(memberBloomFilter.mightContainNickname("yoonkun")).isTrue();
+        assertThat(memberBloomFilter.mightContainUsername("yoon1234")).isTrue();
+    }
+
+    @DisplayName("저장된 회원을 배치 단위로 읽어 블룸 필터를 구성한다.")
+    @Test
+    void rebuild() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        given(memberRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(member));
+        given(memberRepository.findAllByIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class))).willReturn(List.of());
+
+        memberBloomFilter.rebuild();
+
+        assertThat(memberBloomFilter.mightContainNickname("yoonkun")).isTrue();
+        assertThat(memberBloomFilter.mightContainUsername("yoon1234")).isTrue();
+        assertThat(memberBloomFilter.mightContainNickname("minsoo")).isFalse();
+        assertThat(memberBloomFilter.mightContainUsername("minsoo1234")).isFalse();
+    }
+
+    @DisplayName("회원가입이 커밋되면 블룸 필터에 추가하고 다른 서버에 전파한다.")
+    @Test
+    void handleMemberSignup() {
+        given(memberRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of());
+        memberBloomFilter.rebuild();
+
+        memberBloomFilter.handleMemberSignup(new MemberSignupEvent("yoon1234", "yoonkun"));
+
+        assertThat(memberBloomFilter.mightContainNickname("yoonkun")).isTrue();
+        assertThat(memberBloomFilter.mightContainUsername("yoon1234")).isTrue();
+        then(stringRedisTemplate).should().convertAndSend(anyString(), eq("yoon1234"));
+        then(stringRedisTemplate).should().convertAndSend(anyString(), eq("yoonkun"));
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.backend.domain.member.controller;
 
 import com.backend.domain.member.dto.MemberSignupRequest;
+import com.backend.domain.member.dto.NicknameCheckResponse;
 import com.backend.domain.member.exception.DuplicateNicknameException;
 import com.backend.domain.member.exception.DuplicateUsernameException;
 import com.backend.domain.member.service.MemberService;
@@ -22,11 +23,17 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -124,4 +131,31 @@ class MemberControllerTest extends ControllerTest {
                 );
     }
 
-}
\ No newline at end of file
+    @DisplayName("닉네임 사용 가능 여부를 조회하면 200을 응답한다.")
+    @Test
+    void nicknameCheck() throws Exception {
+        NicknameCheckResponse nicknameCheckResponse = new NicknameCheckResponse("yoonkun", true);
+
+        given(memberService.nicknameCheck(anyString())).willReturn(nicknameCheckResponse);
+
+        mockMvc.perform(get("/api/members/check")
+                        .queryParam("nickname", "yoonkun")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.nickname").value("yoonkun"),
+                        jsonPath("$.available").value(true)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        queryParameters(
+                                parameterWithName("nickname").description("닉네임")
+                        ),
+                        responseFields(
+                                fieldWithPath("nickname").type(JsonFieldType.STRING).description("닉네임"),
+                                fieldWithPath("available").type(JsonFieldType.BOOLEAN).description("사용 가능 여부")
+                        )
+                ));
+    }
+
+}
@@ -3,6 +3,8 @@ package com.backend.domain.member.repository;
 import com.backend.domain.member.entity.Member;
 import com.backend.global.common.config.JpaAuditingConfig;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,9 @@ class MemberRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager em;
+
     @DisplayName("회원을 저장한다.")
     @Test
     void memberSave() {
@@ -45,7 +50,7 @@ class MemberRepositoryTest {
     @ParameterizedTest
     @MethodSource("nullFieldsMember")
     void memberSaveNullFields(Member member) {
-        assertThatThrownBy(() -> memberRepository.save(member))
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(member))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
@@ -72,7 +77,7 @@ class MemberRepositoryTest {
                 .build();
         memberRepository.save(memberA);
 
-        assertThatThrownBy(() -> memberRepository.save(memberB))
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(memberB))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
@@ -92,7 +97,7 @@ class MemberRepositoryTest {
 
         memberRepository.save(memberA);
 
-        assertThatThrownBy(() -> memberRepository.save(memberB))
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(memberB))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
@@ -142,4 +147,23 @@ class MemberRepositoryTest {
         assertThat(exists).isFalse();
     }
 
-}
\ No newline at end of file
+    @DisplayName("저장된 해시가 그대로일 때만 비밀번호 해시를 바꾼다.")
+    @Test
+    void memberModifyPassword() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("old-password")
+                .build();
+        memberRepository.save(member);
+
+        int stale = memberRepository.modifyPassword(member.getId(), "other-password", "new-password");
+        int modified = memberRepository.modifyPassword(member.getId(), "old-password", "new-password");
+        em.clear();
+
+        assertThat(stale).isEqualTo(0);
+        assertThat(modified).isEqualTo(1);
+        assertThat(memberRepository.findById(member.getId()).get().getPassword()).isEqualTo("new-password");
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.backend.domain.member.service;
 
+import com.backend.domain.member.bloom.MemberBloomFilter;
 import com.backend.domain.member.dto.MemberSignupRequest;
+import com.backend.domain.member.dto.NicknameCheckResponse;
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberSignupEvent;
 import com.backend.domain.member.exception.DuplicateNicknameException;
 import com.backend.domain.member.exception.DuplicateUsernameException;
 import com.backend.domain.member.repository.MemberRepository;
 
+import org.hibernate.exception.ConstraintViolationException;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +19,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -30,13 +40,19 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberBloomFilter memberBloomFilter;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberService memberService;
 
-    @DisplayName("회원가입을 한다.")
+    @DisplayName("회원가입 시 블룸 필터에 없는 닉네임과 아이디는 중복 조회 없이 저장한다.")
     @Test
     void memberSignup() {
         MemberSignupRequest memberSignupRequest = new MemberSignupRequest("yoonkun", "yoon1234", "12345678");
@@ -47,17 +63,18 @@ class MemberServiceTest {
                 .password(encodedPassword)
                 .build();
 
-        given(memberRepository.existsByNickname(anyString())).willReturn(false);
-        given(memberRepository.existsByUsername(anyString())).willReturn(false);
+        given(memberBloomFilter.mightContainNickname(anyString())).willReturn(false);
+        given(memberBloomFilter.mightContainUsername(anyString())).willReturn(false);
         given(passwordEncoder.encode(anyString())).willReturn(encodedPassword);
-        given(memberRepository.save(any(Member.class))).willReturn(member);
+        given(memberRepository.saveAndFlush(any(Member.class))).willReturn(member);
 
         memberService.memberSignup(memberSignupRequest);
 
-        then(memberRepository).should().existsByNickname(anyString());
-        then(memberRepository).should().existsByUsername(anyString());
+        then(memberRepository).should(never()).existsByNickname(anyString());
+        then(memberRepository).should(never()).existsByUsername(anyString());
         then(passwordEncoder).should().encode(anyString());
-        then((memberRepository)).should().save(any(Member.class));
+        then(memberRepository).should().saveAndFlush(any(Member.class));
+        then(eventPublisher).should().publishEvent(any(MemberSignupEvent.class));
     }
 
     @DisplayName("회원가입 시 닉네임이 중복되면 예외가 발생한다.")
@@ -65,6 +82,7 @@ class MemberServiceTest {
     void memberSignupDuplicateNickname() {
         MemberSignupRequest memberSignupRequest = new MemberSignupRequest("yoonkun", "yoon1234", "12345678");
 
+        given(memberBloomFilter.mightContainNickname(anyString())).willReturn(true);
         given(memberRepository.existsByNickname(anyString())).willReturn(true);
 
         assertThatThrownBy(() -> memberService.memberSignup(memberSignupRequest))
@@ -73,7 +91,7 @@ class MemberServiceTest {
         then(memberRepository).should().existsByNickname(anyString());
         then(memberRepository).should(never()).existsByUsername(anyString());
         then(passwordEncoder).should(never()).encode(anyString());
-        then((memberRepository)).should(never()).save(any(Member.class));
+        then(memberRepository).should(never()).saveAndFlush(any(Member.class));
     }
 
     @DisplayName("회원가입 시 아이디가 중복되면 예외가 발생한다.")
@@ -81,16 +99,57 @@ class MemberServiceTest {
     void memberSignupDuplicateUsername() {
         MemberSignupRequest memberSignupRequest = new MemberSignupRequest("yoonkun", "yoon1234", "12345678");
 
-        given(memberRepository.existsByNickname(anyString())).willReturn(false);
+        given(memberBloomFilter.mightContainNickname(anyString())).willReturn(false);
+        given(memberBloomFilter.mightContainUsername(anyString())).willReturn(true);
         given(memberRepository.existsByUsername(anyString())).willReturn(true);
 
         assertThatThrownBy(() -> memberService.memberSignup(memberSignupRequest))
                 .isInstanceOf(DuplicateUsernameException.class);
 
-        then(memberRepository).should().existsByNickname(anyString());
+        then(memberRepository).should(never()).existsByNickname(anyString());
         then(memberRepository).should().existsByUsername(anyString());
         then(passwordEncoder).should(never()).encode(anyString());
-        then((memberRepository)).should(never()).save(any(Member.class));
+        then(memberRepository).should(never()).saveAndFlush(any(Member.class));
+    }
+
+    @DisplayName("회원가입 시 동시에 같은 닉네임이 저장되면 유니크 제약 위반을 중복 예외로 바꾼다.")
+    @Test
+    void memberSignupNicknameConstraintViolation() {
+        MemberSignupRequest memberSignupRequest = new MemberSignupRequest("yoonkun", "yoon1234", "12345678");
+        ConstraintViolationException cause = new ConstraintViolationException("duplicate", new SQLException(),
+                "PUBLIC.UK_MEMBER_NICKNAME_INDEX_8");
+
+        given(memberBloomFilter.mightContainNickname(anyString())).willReturn(false);
+        given(memberBloomFilter.mightContainUsername(anyString())).willReturn(false);
+        given(passwordEncoder.encode(anyString())).willReturn("encoded-password");
+        given(memberRepository.saveAndFlush(any(Member.class))).willThrow(new DataIntegrityViolationException("duplicate", cause));
+
+        assertThatThrownBy(() -> memberService.memberSignup(memberSignupRequest))
+                .isInstanceOf(DuplicateNicknameException.class);
+
+        then(eventPublisher).should(never()).publishEvent(any(MemberSignupEvent.class));
+    }
+
+    @DisplayName("닉네임이 블룸 필터에 없으면 조회 없이 사용 가능으로 응답한다.")
+    @Test
+    void nicknameCheck() {
+        given(memberBloomFilter.mightContainNickname("yoonkun")).willReturn(false);
+
+        NicknameCheckResponse nicknameCheckResponse = memberService.nicknameCheck("yoonkun");
+
+        assertThat(nicknameCheckResponse.isAvailable()).isTrue();
+        then(memberRepository).should(never()).existsByNickname(anyString());
+    }
+
+    @DisplayName("닉네임이 블룸 필터에 있으면 DB에서 사용 여부를 확인한다.")
+    @Test
+    void nicknameCheckMightContain() {
+        given(memberBloomFilter.mightContainNickname("yoonkun")).willReturn(true);
+        given(memberRepository.existsByNickname("yoonkun")).willReturn(true);
+
+        NicknameCheckResponse nicknameCheckResponse = memberService.nicknameCheck("yoonkun");
+
+        assertThat(nicknameCheckResponse.isAvailable()).isFalse();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.backend.domain.post.cache;
+
+import com.backend.domain.post.dto.PostDetailResponse;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.repository.PostVersionRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private PostVersionRepository postVersionRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private PostDetailCache postDetailCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = newPostDetailCache();
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("로컬 캐시와 Redis에 없으면 조회 결과를 두 캐시에 저장한다.")
+    @Test
+    void getMiss() {
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willReturn(Optional.of(1L));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+        postDetailCache.get(1L, this::load);
+        PostDetailResponse postDetailResponse = postDetailCache.get(1L, this::load);
+
+        assertThat(postDetailResponse.getTitle()).isEqualTo("title");
+        assertThat(loadCount.get()).isEqualTo(1);
+        then(valueOperations).should().set(eq("post:detail:1:1"), anyString(), eq(Duration.ofMinutes(30)));
+    }
+
+    @DisplayName("로컬 캐시에 없고 Redis에 있으면 Redis의 값을 사용한다.")
+    @Test
+    void getRemoteHit() throws Exception {
+        String value = objectMapper.writeValueAsString(load());
+
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willReturn(Optional.of(1L));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:detail:1:1")).willReturn(value);
+        loadCount.set(0);
+
+        PostDetailResponse postDetailResponse = postDetailCache.get(1L, this::load);
+
+        assertThat(postDetailResponse.getTitle()).isEqualTo("title");
+        assertThat(loadCount.get()).isEqualTo(0);
+    }
+
+    @DisplayName("게시글이 수정되면 Redis 캐시를 삭제하고 다른 서버에 무효화 메시지를 발행한다.")
+    @Test
+    void handlePostModify() {
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willReturn(Optional.of(1L));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        postDetailCache.get(1L, this::load);
+
+        postDetailCache.handlePostModify(new PostModifyEvent(1L));
+        postDetailCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        then(stringRedisTemplate).should().delete("post:detail:1:1");
+        then(stringRedisTemplate).should().convertAndSend(any(String.class), eq("1"));
+    }
+
+    @DisplayName("상세 버전이 없으면 Redis 캐시를 사용하지 않는다.")
+    @Test
+    void getWithoutVersion() {
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willReturn(Optional.empty());
+
+        postDetailCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        then(stringRedisTemplate).should(never()).opsForValue();
+    }
+
+    @DisplayName("다른 서버의 무효화가 조회와 저장 사이에 끼어들어도 수정 전 본문이 새 버전으로 저장되지 않는다.")
+    @Test
+    void getInterleavedWithEvict() {
+        Map<String, String> redis = new ConcurrentHashMap<>();
+        AtomicLong detailVersion = new AtomicLong(1);
+        PostDetailCache modifyingNode = newPostDetailCache();
+        PostDetailCache readingNode = newPostDetailCache();
+
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willAnswer(invocation -> Optional.of(detailVersion.get()));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        willAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        given(stringRedisTemplate.delete(anyString())).willAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+
+        postDetailCache.get(1L, () -> {
+            PostDetailResponse stale = detail("title");
+            detailVersion.incrementAndGet();
+            modifyingNode.evict(1L);
+            return stale;
+        });
+        PostDetailResponse postDetailResponse = readingNode.get(1L, () -> detail("modified title"));
+
+        assertThat(redis).containsKeys("post:detail:1:1", "post:detail:1:2");
+        assertThat(postDetailResponse.getTitle()).isEqualTo("modified title");
+    }
+
+    private PostDetailCache newPostDetailCache() {
+        PostDetailCacheProperties properties = new PostDetailCacheProperties(100, Duration.ofMinutes(1), Duration.ofMinutes(30));
+        return new PostDetailCache(properties, stringRedisTemplate, postVersionRepository, objectMapper,
+                redisMessageListenerContainer, new SimpleMeterRegistry());
+    }
+
+    private PostDetailResponse detail(String title) {
+        return new PostDetailResponse(1L, title, "writer", "content", LocalDateTime.now(), 0, 0);
+    }
+
+    private PostDetailResponse load() {
+        loadCount.incrementAndGet();
+        return new PostDetailResponse(1L, "title", "writer", "content", LocalDateTime.now(), 0, 0);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.backend.domain.post.cache;
+
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.dto.PostItem;
+import com.backend.domain.post.dto.PostListResponse;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostListCacheTest {
+
+    private PostListCache postListCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        postListCache = new PostListCache(new PostListCacheProperties(3, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("캐시 대상 페이지는 한 번만 조회한다.")
+    @Test
+    void getCachedPage() {
+        postListCache.get(0, 1L, () -> load(1L));
+        postListCache.get(0, 1L, () -> load(1L));
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시 대상이 아닌 페이지는 매번 조회한다.")
+    @Test
+    void getNotCachedPage() {
+        postListCache.get(3, 1L, () -> load(1L));
+        postListCache.get(3, 1L, () -> load(1L));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글이 작성되면 캐시된 페이지를 모두 무효화한다.")
+    @Test
+    void handlePostWrite() {
+        postListCache.get(0, 1L, () -> load(2L));
+        postListCache.get(1, 1L, () -> load(1L));
+
+        postListCache.handlePostWrite(new PostWriteEvent(3L));
+        postListCache.get(0, 1L, () -> load(3L));
+        postListCache.get(1, 1L, () -> load(2L));
+
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @DisplayName("게시글이 수정되거나 댓글이 작성되면 해당 게시글이 포함된 페이지만 무효화한다.")
+    @Test
+    void handlePostModifyAndCommentWrite() {
+        postListCache.get(0, 1L, () -> load(2L));
+        postListCache.get(1, 1L, () -> load(1L));
+
+        postListCache.handlePostModify(new PostModifyEvent(2L));
+        postListCache.handleCommentWrite(new CommentWriteEvent(2L));
+        postListCache.get(0, 1L, () -> load(2L));
+        postListCache.get(1, 1L, () -> load(1L));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @DisplayName("목록 버전이 바뀌면 이전 버전으로 캐시된 페이지를 사용하지 않는다.")
+    @Test
+    void getNewListVersion() {
+        postListCache.get(0, 1L, () -> load(1L));
+        postListCache.get(0, 2L, () -> load(2L));
+        PostListResponse postListResponse = postListCache.get(0, 2L, () -> load(2L));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(postListResponse.getPosts().get(0).getPostId()).isEqualTo(2L);
+    }
+
+    private PostListResponse load(Long postId) {
+        loadCount.incrementAndGet();
+        List<PostItem> posts = List.of(new PostItem(postId, "title", "writer", LocalDateTime.now(), 0, 0));
+        return new PostListResponse(posts, 1, 1, 1, true, true, false, false);
+    }
+
+}
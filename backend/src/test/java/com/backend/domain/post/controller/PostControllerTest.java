@@ -1,16 +1,24 @@
 package com.backend.domain.post.controller;
 
+import com.backend.domain.auth.dto.LoginMember;
+import com.backend.domain.post.dto.PostCursorResponse;
 import com.backend.domain.post.dto.PostDetailResponse;
 import com.backend.domain.post.dto.PostItem;
 import com.backend.domain.post.dto.PostListResponse;
 import com.backend.domain.post.dto.PostModifyRequest;
+import com.backend.domain.post.dto.PostPopularResponse;
 import com.backend.domain.post.dto.PostWriteRequest;
 import com.backend.domain.post.exception.AccessDeniedDeletePostException;
 import com.backend.domain.post.exception.AccessDeniedModifyPostException;
+import com.backend.domain.post.exception.InvalidPopularWindowException;
 import com.backend.domain.post.exception.NotFoundPostException;
+import com.backend.domain.post.service.PopularPostService;
 import com.backend.domain.post.service.PostService;
+import com.backend.domain.post.service.PostVersionService;
 import com.backend.support.ControllerTest;
+import com.backend.global.common.web.ResourceVersion;
 import com.backend.global.error.exception.ErrorType;
+import com.backend.global.security.filter.RequestPath;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -30,15 +38,19 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -52,6 +64,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,18 +74,25 @@ class PostControllerTest extends ControllerTest {
     @MockitoBean
     private PostService postService;
 
+    @MockitoBean
+    private PopularPostService popularPostService;
+
+    @MockitoBean
+    private PostVersionService postVersionService;
+
     @DisplayName("게시글 작성에 성공하면 200을 응답한다.")
     @Test
     void postWrite() throws Exception {
         PostWriteRequest postWriteRequest = new PostWriteRequest("title", "content");
         Claims claims = Jwts.claims()
                 .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
-        willDoNothing().given(postService).postWrite(any(PostWriteRequest.class), anyString());
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        willDoNothing().given(postService).postWrite(any(PostWriteRequest.class), any(LoginMember.class));
 
         mockMvc.perform(post("/api/posts/write")
                         .header("Authorization", "Bearer access-token")
@@ -98,11 +118,12 @@ class PostControllerTest extends ControllerTest {
     void postWriteInvalidInput(PostWriteRequest postWriteRequest) throws Exception {
         Claims claims = Jwts.claims()
                 .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
 
         mockMvc.perform(post("/api/posts/write")
                         .header("Authorization", "Bearer access-token")
@@ -127,6 +148,36 @@ class PostControllerTest extends ControllerTest {
         );
     }
 
+    @DisplayName("게시글 작성 요청이 너무 많으면 429와 Retry-After를 응답한다.")
+    @Test
+    void postWriteTooManyRequests() throws Exception {
+        PostWriteRequest postWriteRequest = new PostWriteRequest("title", "content");
+        Claims claims = Jwts.claims()
+                .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
+                .add("authority", "ROLE_MEMBER")
+                .build();
+
+        given(tokenService.validateToken(anyString())).willReturn(claims);
+        given(rateLimiter.tryAcquire(eq(RequestPath.POST_WRITE), eq("user:yoon1234"))).willReturn(1500L);
+
+        mockMvc.perform(post("/api/posts/write")
+                        .header("Authorization", "Bearer access-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(postWriteRequest))
+                )
+                .andExpectAll(
+                        status().isTooManyRequests(),
+                        header().string("Retry-After", "2"),
+                        jsonPath("$.status").value(429),
+                        jsonPath("$.errorCode").value("E429001"),
+                        jsonPath("$.message").value("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.")
+                );
+
+        then(postService).should(never()).postWrite(any(PostWriteRequest.class), any(LoginMember.class));
+    }
+
     @DisplayName("게시글 작성 시 access token이 만료되면 401을 응답한다.")
     @Test
     void postWriteExpiredAccessToken() throws Exception {
@@ -172,18 +223,22 @@ class PostControllerTest extends ControllerTest {
     @DisplayName("게시글 상세조회에 성공하면 200을 응답한다.")
     @Test
     void postDetail() throws Exception {
-        PostDetailResponse postDetailResponse = new PostDetailResponse(1L, "title", "writer", "content", LocalDateTime.now());
+        PostDetailResponse postDetailResponse = new PostDetailResponse(1L, "title", "writer", "content", LocalDateTime.now(), 10, 5);
 
         given(postService.postDetail(anyLong())).willReturn(postDetailResponse);
+        given(postVersionService.postDetailVersion(1L)).willReturn(Optional.of(ResourceVersion.weak("post-1-200", 200L)));
 
         mockMvc.perform(get("/api/posts/{postId}", 1))
                 .andExpectAll(
                         status().isOk(),
+                        header().string("ETag", "W/\"post-1-200\""),
                         jsonPath("$.postId").value(1),
                         jsonPath("$.title").value("title"),
                         jsonPath("$.writer").value("writer"),
                         jsonPath("$.content").value("content"),
-                        jsonPath("$.createdAt").isNotEmpty()
+                        jsonPath("$.createdAt").isNotEmpty(),
+                        jsonPath("$.viewCount").value(10),
+                        jsonPath("$.commentCount").value(5)
                 )
                 .andDo(restdocs)
                 .andDo(restdocs.document(
@@ -195,7 +250,9 @@ class PostControllerTest extends ControllerTest {
                                 fieldWithPath("title").type(JsonFieldType.STRING).description("제목"),
                                 fieldWithPath("writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
-                                fieldWithPath("createdAt").type(JsonFieldType.STRING).description("작성일")
+                                fieldWithPath("createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("viewCount").type(JsonFieldType.NUMBER).description("조회수"),
+                                fieldWithPath("commentCount").type(JsonFieldType.NUMBER).description("댓글 개수")
                         )
                 ));
     }
@@ -214,15 +271,60 @@ class PostControllerTest extends ControllerTest {
                 );
     }
 
+    @DisplayName("게시글 상세조회 시 게시글이 변경되지 않았으면 304를 응답한다.")
+    @Test
+    void postDetailNotModified() throws Exception {
+        given(postVersionService.findPostDetailVersion(1L)).willReturn(Optional.of(ResourceVersion.weak("post-1-200", 200L)));
+
+        mockMvc.perform(get("/api/posts/{postId}", 1)
+                        .header("If-None-Match", "W/\"post-1-200\"")
+                )
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string("ETag", "W/\"post-1-200\"")
+                );
+
+        then(postService).should(never()).postDetail(anyLong());
+        then(postService).should().postView(1L);
+    }
+
+    @DisplayName("게시글 상세조회 시 조건부 요청이 아니면 버전을 확인하지 않고 본문을 응답한다.")
+    @Test
+    void postDetailUnconditional() throws Exception {
+        PostDetailResponse postDetailResponse = new PostDetailResponse(1L, "title", "writer", "content", LocalDateTime.now(), 10, 5);
+
+        given(postService.postDetail(1L)).willReturn(postDetailResponse);
+
+        mockMvc.perform(get("/api/posts/{postId}", 1))
+                .andExpect(status().isOk());
+
+        then(postVersionService).should(never()).findPostDetailVersion(anyLong());
+    }
+
+    @DisplayName("게시글 목록 조회 시 목록이 변경되지 않았으면 304를 응답한다.")
+    @Test
+    void postListNotModified() throws Exception {
+        given(postVersionService.findListVersion()).willReturn(Optional.of(100L));
+        given(postVersionService.postListVersion(1, 100L)).willReturn(ResourceVersion.weak("posts-page-1-100", 100L));
+
+        mockMvc.perform(get("/api/posts")
+                        .param("page", "1")
+                        .header("If-None-Match", "W/\"posts-page-1-100\"")
+                )
+                .andExpect(status().isNotModified());
+
+        then(postService).should(never()).postList(anyInt(), anyLong());
+    }
+
     @DisplayName("게시글 목록 조회에 성공하면 200을 응답한다.")
     @Test
     void postList() throws Exception {
         List<PostItem> posts = List.of(
-                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5)
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 10)
         );
         PostListResponse postListResponse = new PostListResponse(posts, 1, 1, 1, true, true, false, false);
 
-        given(postService.postList(anyInt())).willReturn(postListResponse);
+        given(postService.postList(anyInt(), anyLong())).willReturn(postListResponse);
 
         mockMvc.perform(get("/api/posts")
                         .param("page", "1")
@@ -235,6 +337,7 @@ class PostControllerTest extends ControllerTest {
                         jsonPath("$.posts[0].writer").value("writer"),
                         jsonPath("$.posts[0].createdAt").isNotEmpty(),
                         jsonPath("$.posts[0].commentCount").value(5),
+                        jsonPath("$.posts[0].viewCount").value(10),
                         jsonPath("$.page").value(1),
                         jsonPath("$.totalPages").value(1),
                         jsonPath("$.totalPosts").value(1),
@@ -255,6 +358,7 @@ class PostControllerTest extends ControllerTest {
                                 fieldWithPath("posts[0].writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("posts[0].createdAt").type(JsonFieldType.STRING).description("작성일"),
                                 fieldWithPath("posts[0].commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
+                                fieldWithPath("posts[0].viewCount").type(JsonFieldType.NUMBER).description("조회수"),
                                 fieldWithPath("page").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
                                 fieldWithPath("totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 개수"),
                                 fieldWithPath("totalPosts").type(JsonFieldType.NUMBER).description("전체 게시글 개수"),
@@ -266,11 +370,113 @@ class PostControllerTest extends ControllerTest {
                 ));
     }
 
+    @DisplayName("커서 기반 게시글 목록 조회에 성공하면 200을 응답한다.")
+    @Test
+    void postListCursor() throws Exception {
+        List<PostItem> posts = List.of(
+                new PostItem(20L, "title", "writer", LocalDateTime.now(), 5, 10)
+        );
+        PostCursorResponse postCursorResponse = new PostCursorResponse(posts, 20L, true);
+
+        given(postService.postListCursor(anyLong())).willReturn(postCursorResponse);
+
+        mockMvc.perform(get("/api/posts")
+                        .param("before", "21")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.posts").isArray(),
+                        jsonPath("$.posts[0].postId").value(20),
+                        jsonPath("$.posts[0].title").value("title"),
+                        jsonPath("$.posts[0].writer").value("writer"),
+                        jsonPath("$.posts[0].createdAt").isNotEmpty(),
+                        jsonPath("$.posts[0].commentCount").value(5),
+                        jsonPath("$.posts[0].viewCount").value(10),
+                        jsonPath("$.nextCursor").value(20),
+                        jsonPath("$.next").value(true)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        queryParameters(
+                                parameterWithName("before").description("이 게시글 번호보다 이전 게시글부터 조회 (비어 있으면 최신 게시글부터)")
+                        ),
+                        responseFields(
+                                fieldWithPath("posts").type(JsonFieldType.ARRAY).description("게시글 목록"),
+                                fieldWithPath("posts[0].postId").type(JsonFieldType.NUMBER).description("글번호"),
+                                fieldWithPath("posts[0].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("posts[0].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("posts[0].createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("posts[0].commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
+                                fieldWithPath("posts[0].viewCount").type(JsonFieldType.NUMBER).description("조회수"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 목록 조회 시 before로 전달할 커서").optional(),
+                                fieldWithPath("next").type(JsonFieldType.BOOLEAN).description("다음 목록 존재 여부")
+                        )
+                ));
+    }
+
+    @DisplayName("인기 게시글 목록 조회에 성공하면 200을 응답한다.")
+    @Test
+    void postPopular() throws Exception {
+        List<PostItem> posts = List.of(
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 10)
+        );
+        PostPopularResponse postPopularResponse = new PostPopularResponse("24h", posts);
+
+        given(popularPostService.popularPosts(anyString())).willReturn(postPopularResponse);
+
+        mockMvc.perform(get("/api/posts/popular")
+                        .param("window", "24h")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.window").value("24h"),
+                        jsonPath("$.posts").isArray(),
+                        jsonPath("$.posts[0].postId").value(1),
+                        jsonPath("$.posts[0].title").value("title"),
+                        jsonPath("$.posts[0].writer").value("writer"),
+                        jsonPath("$.posts[0].createdAt").isNotEmpty(),
+                        jsonPath("$.posts[0].commentCount").value(5),
+                        jsonPath("$.posts[0].viewCount").value(10)
+                )
+                .andDo(restdocs)
+                .andDo(restdocs.document(
+                        queryParameters(
+                                parameterWithName("window").description("집계 기간 (1h, 24h, 7d / 기본값 24h)")
+                        ),
+                        responseFields(
+                                fieldWithPath("window").type(JsonFieldType.STRING).description("집계 기간"),
+                                fieldWithPath("posts").type(JsonFieldType.ARRAY).description("인기 게시글 목록 (순위순)"),
+                                fieldWithPath("posts[0].postId").type(JsonFieldType.NUMBER).description("글번호"),
+                                fieldWithPath("posts[0].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("posts[0].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("posts[0].createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("posts[0].commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
+                                fieldWithPath("posts[0].viewCount").type(JsonFieldType.NUMBER).description("조회수")
+                        )
+                ));
+    }
+
+    @DisplayName("인기 게시글 목록 조회 시 집계 기간이 잘못되면 400을 응답한다.")
+    @Test
+    void postPopularInvalidWindow() throws Exception {
+        willThrow(new InvalidPopularWindowException()).given(popularPostService).popularPosts(anyString());
+
+        mockMvc.perform(get("/api/posts/popular")
+                        .param("window", "3d")
+                )
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value(400),
+                        jsonPath("$.errorCode").value("E400002"),
+                        jsonPath("$.message").value("인기 게시글 조회 기간이 잘못 되었습니다.")
+                );
+    }
+
     @DisplayName("제목으로 게시글 목록을 조회에 성공하면 200을 응답한다.")
     @Test
     void postListSearch() throws Exception {
         List<PostItem> posts = List.of(
-                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5)
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 10)
         );
         PostListResponse postListResponse = new PostListResponse(posts, 1, 1, 1, true, true, false, false);
 
@@ -289,6 +495,7 @@ class PostControllerTest extends ControllerTest {
                         jsonPath("$.posts[0].writer").value("writer"),
                         jsonPath("$.posts[0].createdAt").isNotEmpty(),
                         jsonPath("$.posts[0].commentCount").value(5),
+                        jsonPath("$.posts[0].viewCount").value(10),
                         jsonPath("$.page").value(1),
                         jsonPath("$.totalPages").value(1),
                         jsonPath("$.totalPosts").value(1),
@@ -300,7 +507,7 @@ class PostControllerTest extends ControllerTest {
                 .andDo(restdocs)
                 .andDo(restdocs.document(
                         queryParameters(
-                                parameterWithName("type").description("검색 유형"),
+                                parameterWithName("type").description("검색 유형 (title, writer, content, all)"),
                                 parameterWithName("keyword").description("검색 단어"),
                                 parameterWithName("page").description("페이지 번호")
                         ),
@@ -311,6 +518,7 @@ class PostControllerTest extends ControllerTest {
                                 fieldWithPath("posts[0].writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("posts[0].createdAt").type(JsonFieldType.STRING).description("작성일"),
                                 fieldWithPath("posts[0].commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
+                                fieldWithPath("posts[0].viewCount").type(JsonFieldType.NUMBER).description("조회수"),
                                 fieldWithPath("page").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
                                 fieldWithPath("totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 개수"),
                                 fieldWithPath("totalPosts").type(JsonFieldType.NUMBER).description("전체 게시글 개수"),
@@ -328,11 +536,12 @@ class PostControllerTest extends ControllerTest {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
         Claims claims = Jwts.claims()
                 .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willDoNothing().given(postService).postModify(anyLong(), anyString(), any(PostModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}", 1)
@@ -364,11 +573,12 @@ class PostControllerTest extends ControllerTest {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new NotFoundPostException()).given(postService).postModify(anyLong(), anyString(), any(PostModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}", 1)
@@ -432,11 +642,12 @@ class PostControllerTest extends ControllerTest {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new AccessDeniedModifyPostException()).given(postService).postModify(anyLong(), anyString(), any(PostModifyRequest.class));
 
         mockMvc.perform(put("/api/posts/{postId}", 1)
@@ -457,11 +668,12 @@ class PostControllerTest extends ControllerTest {
     void postDelete() throws Exception {
         Claims claims = Jwts.claims()
                 .add("username", "yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willDoNothing().given(postService).postDelete(anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}", 1)
@@ -484,11 +696,12 @@ class PostControllerTest extends ControllerTest {
     void postDeleteNotFoundPost() throws Exception {
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new NotFoundPostException()).given(postService).postDelete(anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}", 1)
@@ -544,11 +757,12 @@ class PostControllerTest extends ControllerTest {
     void postDeleteAccessDenied() throws Exception {
         Claims claims = Jwts.claims()
                 .subject("yoon1234")
+                .add("memberId", 1L)
+                .add("nickname", "yoonkun")
                 .add("authority", "ROLE_MEMBER")
                 .build();
 
-        willDoNothing().given(tokenService).validateToken(anyString());
-        given(tokenService.extractClaim(anyString())).willReturn(claims);
+        given(tokenService.validateToken(anyString())).willReturn(claims);
         willThrow(new AccessDeniedDeletePostException()).given(postService).postDelete(anyLong(), anyString());
 
         mockMvc.perform(delete("/api/posts/{postId}", 1)
@@ -0,0 +1,131 @@
+package com.backend.domain.post.count;
+
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostWriteEvent;
+import com.backend.domain.post.repository.PostRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CountServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @DisplayName("정확 모드에서는 게시글 개수를 매번 조회한다.")
+    @Test
+    void postCountExact() {
+        CountService countService = countService(CountMode.EXACT);
+
+        given(postRepository.count()).willReturn(10L);
+
+        countService.postCount();
+        long postCount = countService.postCount();
+
+        assertThat(postCount).isEqualTo(10);
+        then(postRepository).should(times(2)).count();
+    }
+
+    @DisplayName("근사 모드에서는 게시글 개수를 한 번만 조회하고 이후에는 유지한다.")
+    @Test
+    void postCountApproximate() {
+        CountService countService = countService(CountMode.APPROXIMATE);
+
+        given(postRepository.count()).willReturn(10L);
+
+        countService.postCount();
+        long postCount = countService.postCount();
+
+        assertThat(postCount).isEqualTo(10);
+        then(postRepository).should(times(1)).count();
+    }
+
+    @DisplayName("근사 모드에서 게시글 작성 및 삭제 이벤트가 발생하면 게시글 개수를 증감한다.")
+    @Test
+    void postCountApproximateEvent() {
+        CountService countService = countService(CountMode.APPROXIMATE);
+
+        given(postRepository.count()).willReturn(10L);
+
+        countService.postCount();
+        countService.handlePostWrite(new PostWriteEvent(11L));
+        countService.handlePostWrite(new PostWriteEvent(12L));
+        countService.handlePostDelete(new PostDeleteEvent(1L));
+
+        assertThat(countService.postCount()).isEqualTo(11);
+    }
+
+    @DisplayName("게시글 개수를 불러오기 전에 발생한 이벤트는 무시한다.")
+    @Test
+    void postCountEventBeforeLoad() {
+        CountService countService = countService(CountMode.APPROXIMATE);
+
+        countService.handlePostWrite(new PostWriteEvent(1L));
+        countService.handlePostDelete(new PostDeleteEvent(1L));
+
+        then(postRepository).should(never()).count();
+    }
+
+    @DisplayName("게시글 개수를 갱신하면 실제 개수로 보정한다.")
+    @Test
+    void refresh() {
+        CountService countService = countService(CountMode.APPROXIMATE);
+
+        given(postRepository.count()).willReturn(10L, 7L);
+
+        countService.postCount();
+        countService.handlePostWrite(new PostWriteEvent(11L));
+        countService.refresh();
+
+        assertThat(countService.postCount()).isEqualTo(7);
+    }
+
+    @DisplayName("정확 모드에서는 댓글 개수를 댓글 테이블에서 조회한다.")
+    @Test
+    void commentCountExact() {
+        CountService countService = countService(CountMode.EXACT);
+
+        given(commentRepository.countByPostId(anyLong())).willReturn(3L);
+
+        long commentCount = countService.commentCount(1L);
+
+        assertThat(commentCount).isEqualTo(3);
+        then(postRepository).should(never()).findCommentCountById(anyLong());
+    }
+
+    @DisplayName("근사 모드에서는 게시글에 저장된 댓글 개수를 사용한다.")
+    @Test
+    void commentCountApproximate() {
+        CountService countService = countService(CountMode.APPROXIMATE);
+
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.of(3L));
+
+        long commentCount = countService.commentCount(1L);
+
+        assertThat(commentCount).isEqualTo(3);
+        then(commentRepository).should(never()).countByPostId(anyLong());
+    }
+
+    private CountService countService(CountMode mode) {
+        return new CountService(postRepository, commentRepository, new CountProperties(mode));
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.backend.domain.post.repository;
 
+import com.backend.domain.comment.entity.Comment;
+import com.backend.domain.comment.repository.CommentRepository;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.post.dto.PostItem;
 import com.backend.domain.post.entity.Post;
 import com.backend.global.common.config.JpaAuditingConfig;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Named;
@@ -20,7 +25,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -31,12 +39,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @Import(JpaAuditingConfig.class)
 class PostRepositoryTest {
 
+    @PersistenceContext
+    private EntityManager em;
+
     @Autowired
     private MemberRepository memberRepository;
 
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
     private static Member member;
 
     @BeforeEach
@@ -67,7 +81,7 @@ class PostRepositoryTest {
     @ParameterizedTest
     @MethodSource("nullFieldsPost")
     void postSaveNullFields(Post post) {
-        assertThatThrownBy(() -> postRepository.save(post))
+        assertThatThrownBy(() -> postRepository.saveAndFlush(post))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
@@ -126,16 +140,36 @@ class PostRepositoryTest {
                 .build();
         postRepository.save(post);
 
-        Page<PostItem> postPage = postRepository.findAllPost(PageRequest.of(0, 10));
+        List<PostItem> posts = postRepository.findAllPost(PageRequest.of(0, 10));
 
-        assertThat(postPage.getContent()).isNotNull();
-        assertThat(postPage.getNumber()).isEqualTo(0);
-        assertThat(postPage.getTotalElements()).isEqualTo(1);
-        assertThat(postPage.getTotalPages()).isEqualTo(1);
-        assertThat(postPage.isFirst()).isTrue();
-        assertThat(postPage.isLast()).isTrue();
-        assertThat(postPage.hasPrevious()).isFalse();
-        assertThat(postPage.hasNext()).isFalse();
+        assertThat(posts).hasSize(1);
+        assertThat(posts.get(0).getTitle()).isEqualTo("title");
+        assertThat(posts.get(0).getCommentCount()).isEqualTo(0);
+    }
+
+    @DisplayName("게시글의 댓글 개수를 조회한다.")
+    @Test
+    void postFindCommentCountById() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+        postRepository.increaseCommentCount(savePost.getId());
+
+        Optional<Long> commentCount = postRepository.findCommentCountById(savePost.getId());
+
+        assertThat(commentCount).contains(1L);
+    }
+
+    @DisplayName("커서 이전의 게시글 목록을 PostItem DTO 형식으로 조회한다.")
+    @Test
+    void postFindAllPostBefore() {
+        Post first = postRepository.save(new Post("title1", member.getNickname(), "content1", member));
+        Post second = postRepository.save(new Post("title2", member.getNickname(), "content2", member));
+        Post third = postRepository.save(new Post("title3", member.getNickname(), "content3", member));
+
+        Slice<PostItem> postSlice = postRepository.findAllPostBefore(third.getId(), PageRequest.of(0, 1));
+
+        assertThat(postSlice.getContent()).hasSize(1);
+        assertThat(postSlice.getContent().get(0).getPostId()).isEqualTo(second.getId());
+        assertThat(postSlice.hasNext()).isTrue();
     }
 
     @DisplayName("제목으로 게시글 목록을 검색한다.")
@@ -184,4 +218,128 @@ class PostRepositoryTest {
         assertThat(postPage.hasNext()).isFalse();
     }
 
-}
\ No newline at end of file
+    @DisplayName("기본키 목록으로 게시글 목록을 PostItem DTO 형식으로 조회한다.")
+    @Test
+    void postFindAllPostByIdIn() {
+        Post first = postRepository.save(new Post("first", member.getNickname(), "content", member));
+        Post second = postRepository.save(new Post("second", member.getNickname(), "content", member));
+        postRepository.save(new Post("third", member.getNickname(), "content", member));
+
+        List<PostItem> posts = postRepository.findAllPostByIdIn(List.of(first.getId(), second.getId()));
+
+        assertThat(posts).extracting(PostItem::getPostId).containsExactly(second.getId(), first.getId());
+    }
+
+    @DisplayName("기본키보다 큰 게시글 목록을 기본키 오름차순으로 조회한다.")
+    @Test
+    void postFindAllByIdGreaterThan() {
+        Post first = postRepository.save(new Post("first", member.getNickname(), "content", member));
+        Post second = postRepository.save(new Post("second", member.getNickname(), "content", member));
+
+        List<Post> posts = postRepository.findAllByIdGreaterThanOrderByIdAsc(first.getId(), PageRequest.of(0, 10));
+
+        assertThat(posts).extracting(Post::getId).containsExactly(second.getId());
+    }
+
+    @DisplayName("게시글의 댓글 개수를 증가시키고 감소시킨다.")
+    @Test
+    void postIncreaseAndDecreaseCommentCount() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+
+        postRepository.increaseCommentCount(savePost.getId());
+        postRepository.increaseCommentCount(savePost.getId());
+        postRepository.decreaseCommentCount(savePost.getId());
+        em.clear();
+
+        Post findPost = postRepository.findById(savePost.getId()).get();
+        assertThat(findPost.getCommentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글의 조회수를 누적된 값만큼 증가시킨다.")
+    @Test
+    void postIncreaseViewCount() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+
+        postRepository.increaseViewCount(savePost.getId(), 5);
+        postRepository.increaseViewCount(savePost.getId(), 3);
+        em.clear();
+
+        Post findPost = postRepository.findById(savePost.getId()).get();
+        assertThat(findPost.getViewCount()).isEqualTo(8);
+    }
+
+    @DisplayName("실제 댓글 수와 다른 게시글의 댓글 개수를 범위 단위로 보정한다.")
+    @Test
+    void postRepairCommentCount() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+        commentRepository.save(new Comment("writer", "comment1", member, savePost));
+        commentRepository.save(new Comment("writer", "comment2", member, savePost));
+        em.flush();
+
+        int repaired = postRepository.repairCommentCount(0L, postRepository.findMaxId());
+        em.clear();
+
+        Post findPost = postRepository.findById(savePost.getId()).get();
+        assertThat(repaired).isEqualTo(1);
+        assertThat(findPost.getCommentCount()).isEqualTo(2);
+    }
+
+    @DisplayName("작성자인 경우에만 게시글을 수정한다.")
+    @Test
+    void postModifyByIdAndUsername() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+
+        int notOwnerModified = postRepository.modifyByIdAndUsername(savePost.getId(), "yoonyoon", "modify", "modify", LocalDateTime.now());
+        int ownerModified = postRepository.modifyByIdAndUsername(savePost.getId(), "yoon1234", "modify", "modify", LocalDateTime.now());
+        em.clear();
+
+        Post findPost = postRepository.findById(savePost.getId()).get();
+        assertThat(notOwnerModified).isEqualTo(0);
+        assertThat(ownerModified).isEqualTo(1);
+        assertThat(findPost.getTitle()).isEqualTo("modify");
+        assertThat(findPost.getContent()).isEqualTo("modify");
+    }
+
+    @DisplayName("삭제 상태인 게시글은 작성자도 수정할 수 없다.")
+    @Test
+    void postModifyDeletedPost() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+        postRepository.softDeleteByIdAndUsername(savePost.getId(), "yoon1234", LocalDateTime.now());
+
+        int modified = postRepository.modifyByIdAndUsername(savePost.getId(), "yoon1234", "modify", "modify", LocalDateTime.now());
+
+        assertThat(modified).isEqualTo(0);
+    }
+
+    @DisplayName("작성자인 경우에만 게시글을 삭제 상태로 변경하고 삭제된 게시글은 조회되지 않는다.")
+    @Test
+    void postSoftDeleteByIdAndUsername() {
+        Post savePost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+
+        int notOwnerDeleted = postRepository.softDeleteByIdAndUsername(savePost.getId(), "yoonyoon", LocalDateTime.now());
+        int ownerDeleted = postRepository.softDeleteByIdAndUsername(savePost.getId(), "yoon1234", LocalDateTime.now());
+        em.clear();
+
+        assertThat(notOwnerDeleted).isEqualTo(0);
+        assertThat(ownerDeleted).isEqualTo(1);
+        assertThat(postRepository.findById(savePost.getId())).isEmpty();
+        assertThat(postRepository.findAllPost(PageRequest.of(0, 10))).isEmpty();
+        assertThat(postRepository.findDeletedPostIds(10)).containsExactly(savePost.getId());
+    }
+
+    @DisplayName("삭제 상태인 게시글을 완전히 삭제한다.")
+    @Test
+    void postPurgeById() {
+        Post deletedPost = postRepository.save(new Post("title", member.getNickname(), "content", member));
+        Post post = postRepository.save(new Post("title", member.getNickname(), "content", member));
+        postRepository.softDeleteByIdAndUsername(deletedPost.getId(), "yoon1234", LocalDateTime.now());
+
+        int notDeletedPurged = postRepository.purgeById(post.getId());
+        int deletedPurged = postRepository.purgeById(deletedPost.getId());
+
+        assertThat(notDeletedPurged).isEqualTo(0);
+        assertThat(deletedPurged).isEqualTo(1);
+        assertThat(postRepository.countDeletedPost()).isEqualTo(0);
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.backend.domain.post.search;
+
+import com.backend.domain.post.entity.Post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        postSearchIndex = new PostSearchIndex(new PostSearchProperties("", 500, Duration.ofMinutes(5)));
+        postSearchIndex.beginRebuild();
+        postSearchIndex.rebuild(List.of(
+                post(1L, "첫 번째 게시글", "yoonkun", "안녕하세요 반갑습니다"),
+                post(2L, "Spring Boot 질문", "minsoo", "검색 색인은 어떻게 만드나요"),
+                post(3L, "두 번째 게시글", "minsoo", "Lucene n-gram 분석기")
+        ));
+        postSearchIndex.completeRebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        postSearchIndex.close();
+    }
+
+    @DisplayName("재구성이 끝나면 검색 색인이 준비된다.")
+    @Test
+    void ready() {
+        assertThat(postSearchIndex.isReady()).isTrue();
+    }
+
+    @DisplayName("제목의 일부로 게시글을 최신순으로 검색한다.")
+    @Test
+    void searchTitle() {
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.TITLE, "게시", PageRequest.of(0, 10));
+
+        assertThat(postIdPage.getContent()).containsExactly(3L, 1L);
+        assertThat(postIdPage.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("본문의 일부로 게시글을 검색한다.")
+    @Test
+    void searchContent() {
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.CONTENT, "색인", PageRequest.of(0, 10));
+
+        assertThat(postIdPage.getContent()).containsExactly(2L);
+    }
+
+    @DisplayName("검색어의 글자가 연속으로 나타나는 게시글만 검색한다.")
+    @Test
+    void searchPhrase() {
+        Page<Long> matched = postSearchIndex.search(PostSearchType.CONTENT, "세요 반갑", PageRequest.of(0, 10));
+        Page<Long> notMatched = postSearchIndex.search(PostSearchType.CONTENT, "녕하 반갑", PageRequest.of(0, 10));
+
+        assertThat(matched.getContent()).containsExactly(1L);
+        assertThat(notMatched.getContent()).isEmpty();
+    }
+
+    @DisplayName("한 글자로 게시글을 검색한다.")
+    @Test
+    void searchSingleCharacter() {
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.CONTENT, "녕", PageRequest.of(0, 10));
+
+        assertThat(postIdPage.getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("전체 검색은 제목, 본문, 작성자를 모두 검색한다.")
+    @Test
+    void searchAll() {
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.ALL, "minsoo", PageRequest.of(0, 10));
+
+        assertThat(postIdPage.getContent()).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("검색 결과를 페이지 단위로 나누어 응답한다.")
+    @Test
+    void searchPaging() {
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.TITLE, "게시", PageRequest.of(1, 1));
+
+        assertThat(postIdPage.getContent()).containsExactly(1L);
+        assertThat(postIdPage.getTotalElements()).isEqualTo(2);
+        assertThat(postIdPage.hasNext()).isFalse();
+    }
+
+    @DisplayName("게시글을 수정하거나 삭제하면 즉시 검색 결과에 반영된다.")
+    @Test
+    void indexAndDelete() {
+        postSearchIndex.index(post(1L, "수정된 제목", "yoonkun", "안녕하세요 반갑습니다"));
+        postSearchIndex.delete(3L);
+
+        Page<Long> postIdPage = postSearchIndex.search(PostSearchType.TITLE, "게시", PageRequest.of(0, 10));
+
+        assertThat(postIdPage.getContent()).isEmpty();
+    }
+
+    private Post post(Long postId, String title, String writer, String content) {
+        Post post = new Post(title, writer, content, null);
+        ReflectionTestUtils.setField(post, "id", postId);
+        return post;
+    }
+
+}
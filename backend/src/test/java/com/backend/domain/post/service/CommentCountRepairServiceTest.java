@@ -0,0 +1,68 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.post.repository.PostRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountRepairServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private CommentCountRepairProperties properties = new CommentCountRepairProperties(100);
+
+    @InjectMocks
+    private CommentCountRepairService commentCountRepairService;
+
+    @DisplayName("게시글 기본키 범위를 배치 크기 단위로 나누어 댓글 개수를 보정한다.")
+    @Test
+    void repair() {
+        given(postRepository.findMaxId()).willReturn(250L);
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction((TransactionStatus) null);
+        });
+        given(postRepository.repairCommentCount(anyLong(), anyLong())).willReturn(1);
+
+        commentCountRepairService.repair();
+
+        then(postRepository).should().repairCommentCount(0L, 100L);
+        then(postRepository).should().repairCommentCount(100L, 200L);
+        then(postRepository).should().repairCommentCount(200L, 300L);
+        then(postRepository).should(times(3)).repairCommentCount(anyLong(), anyLong());
+    }
+
+    @DisplayName("게시글이 없으면 보정하지 않는다.")
+    @Test
+    void repairEmpty() {
+        given(postRepository.findMaxId()).willReturn(null);
+
+        commentCountRepairService.repair();
+
+        then(postRepository).should(never()).repairCommentCount(anyLong(), anyLong());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.dto.PostDetailResponse;
+import com.backend.domain.post.dto.PostItem;
+import com.backend.domain.post.dto.PostPopularResponse;
+import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostViewEvent;
+import com.backend.domain.post.exception.InvalidPopularWindowException;
+import com.backend.domain.post.repository.PopularPostRepository;
+import com.backend.domain.post.repository.PostRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PopularPostRepository popularPostRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostViewService postViewService;
+
+    @Spy
+    private PopularPostProperties properties = new PopularPostProperties(10, 1, 5, 0.9, 0.7, Duration.ofMinutes(1));
+
+    @InjectMocks
+    private PopularPostService popularPostService;
+
+    @DisplayName("인기 게시글을 순위대로 조회하고 상세 캐시에 없는 게시글만 한 번에 조회한다.")
+    @Test
+    void popularPosts() {
+        Member member = Member.builder()
+                .nickname("yoonkun")
+                .username("yoon1234")
+                .password("12345678")
+                .build();
+        Post post = new Post("title1", "yoonkun", "content", member);
+        ReflectionTestUtils.setField(post, "id", 1L);
+        PostDetailResponse postDetailResponse = new PostDetailResponse(2L, "title2", "yoonkun", "content", LocalDateTime.now(), 0, 0);
+
+        given(popularPostRepository.findTopPostIds(eq("24h"), anyMap(), anyInt(), any(Duration.class))).willReturn(List.of(2L, 1L, 3L));
+        given(postDetailCache.getIfPresentLocal(2L)).willReturn(Optional.of(postDetailResponse));
+        given(postDetailCache.getIfPresentLocal(1L)).willReturn(Optional.empty());
+        given(postDetailCache.getIfPresentLocal(3L)).willReturn(Optional.empty());
+        given(postRepository.findAllById(List.of(1L, 3L))).willReturn(List.of(post));
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PostPopularResponse postPopularResponse = popularPostService.popularPosts("24h");
+
+        assertThat(postPopularResponse.getWindow()).isEqualTo("24h");
+        assertThat(postPopularResponse.getPosts()).extracting(PostItem::getPostId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("Redis 장애 시 마지막으로 조회한 인기 게시글 순위를 사용한다.")
+    @Test
+    void popularPostsRedisFailure() {
+        PostDetailResponse postDetailResponse = new PostDetailResponse(2L, "title2", "yoonkun", "content", LocalDateTime.now(), 0, 0);
+
+        given(popularPostRepository.findTopPostIds(eq("24h"), anyMap(), anyInt(), any(Duration.class)))
+                .willReturn(List.of(2L))
+                .willThrow(new QueryTimeoutException("timeout"));
+        given(postDetailCache.getIfPresentLocal(2L)).willReturn(Optional.of(postDetailResponse));
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        popularPostService.popularPosts("24h");
+        PostPopularResponse postPopularResponse = popularPostService.popularPosts("24h");
+
+        assertThat(postPopularResponse.getPosts()).extracting(PostItem::getPostId).containsExactly(2L);
+    }
+
+    @DisplayName("게시글이 삭제되면 인기 점수 집계에서 제외한다.")
+    @Test
+    void handlePostDelete() {
+        popularPostService.handlePostDelete(new PostDeleteEvent(1L));
+
+        then(popularPostRepository).should().remove(eq(1L), anyList(), eq(List.of("1h", "24h", "7d")));
+    }
+
+    @DisplayName("인기 게시글 조회 시 집계 기간이 잘못되면 예외가 발생한다.")
+    @Test
+    void popularPostsInvalidWindow() {
+        assertThatThrownBy(() -> popularPostService.popularPosts("3d"))
+                .isInstanceOf(InvalidPopularWindowException.class);
+
+        then(popularPostRepository).should(never()).findTopPostIds(anyString(), anyMap(), anyInt(), any(Duration.class));
+    }
+
+    @DisplayName("게시글 조회와 댓글 작성 시 인기 점수를 가중치만큼 올린다.")
+    @Test
+    void increase() {
+        popularPostService.handlePostView(new PostViewEvent(1L));
+        popularPostService.handleCommentWrite(new CommentWriteEvent(1L));
+
+        then(popularPostRepository).should().increase(eq(1L), eq(1.0), anyString(), anyString());
+        then(popularPostRepository).should().increase(eq(1L), eq(5.0), anyString(), anyString());
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.post.repository.PostRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostPurgeServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry meterRegistry;
+    private PostPurgeService postPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PostPurgeProperties properties = new PostPurgeProperties(2, 10, 3);
+        postPurgeService = new PostPurgeService(postRepository, commentRepository, transactionTemplate, properties, meterRegistry);
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        });
+    }
+
+    @DisplayName("삭제된 게시글의 댓글을 청크 단위로 삭제한 뒤 게시글을 완전히 삭제한다.")
+    @Test
+    void purge() {
+        given(postRepository.countDeletedPost()).willReturn(1L);
+        given(postRepository.findDeletedPostIds(10)).willReturn(List.of(1L));
+        given(commentRepository.findIdsByPostId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+
+        postPurgeService.purge();
+
+        then(commentRepository).should(times(2)).deleteAllByIdInBatch(any());
+        then(postRepository).should().purgeById(1L);
+        assertThat(meterRegistry.counter("board.post.purge.comments").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("board.post.purge.posts").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.post.purge.pending").gauge().value()).isEqualTo(0);
+    }
+
+    @DisplayName("한 번에 정리할 청크 수를 넘으면 다음 실행에서 이어서 정리한다.")
+    @Test
+    void purgeMaxChunks() {
+        given(postRepository.countDeletedPost()).willReturn(1L);
+        given(postRepository.findDeletedPostIds(10)).willReturn(List.of(1L));
+        given(commentRepository.findIdsByPostId(eq(1L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+
+        postPurgeService.purge();
+
+        then(commentRepository).should(times(3)).deleteAllByIdInBatch(any());
+        then(postRepository).should(never()).purgeById(anyLong());
+        assertThat(meterRegistry.get("board.post.purge.pending").gauge().value()).isEqualTo(1);
+    }
+
+}
@@ -1,19 +1,28 @@
 package com.backend.domain.post.service;
 
-import com.backend.domain.comment.repository.CommentRepository;
+import com.backend.domain.auth.dto.LoginMember;
 import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.exception.NotFoundMemberException;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.cache.PostListCache;
+import com.backend.domain.post.count.CountService;
+import com.backend.domain.post.dto.PostCursorResponse;
 import com.backend.domain.post.dto.PostDetailResponse;
 import com.backend.domain.post.dto.PostItem;
 import com.backend.domain.post.dto.PostListResponse;
 import com.backend.domain.post.dto.PostModifyRequest;
 import com.backend.domain.post.dto.PostWriteRequest;
 import com.backend.domain.post.entity.Post;
+import com.backend.domain.post.event.PostDeleteEvent;
+import com.backend.domain.post.event.PostModifyEvent;
+import com.backend.domain.post.event.PostViewEvent;
+import com.backend.domain.post.event.PostWriteEvent;
 import com.backend.domain.post.exception.AccessDeniedDeletePostException;
 import com.backend.domain.post.exception.AccessDeniedModifyPostException;
 import com.backend.domain.post.exception.NotFoundPostException;
 import com.backend.domain.post.repository.PostRepository;
+import com.backend.domain.post.search.PostSearchIndex;
+import com.backend.domain.post.search.PostSearchType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,21 +32,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 
@@ -51,7 +65,22 @@ class PostServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private CommentRepository commentRepository;
+    private CountService countService;
+
+    @Mock
+    private PostListCache postListCache;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostViewService postViewService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private PostService postService;
@@ -78,27 +107,15 @@ class PostServiceTest {
                 .member(member)
                 .build();
 
-        given(memberRepository.findByUsername(anyString())).willReturn(Optional.of(member));
+        given(memberRepository.getReferenceById(anyLong())).willReturn(member);
         given(postRepository.save(any(Post.class))).willReturn(post);
 
-        postService.postWrite(postWriteRequest, "yoon1234");
+        postService.postWrite(postWriteRequest, new LoginMember(1L, "yoon1234", "yoonkun", "device-id"));
 
-        then(memberRepository).should().findByUsername(anyString());
+        then(memberRepository).should().getReferenceById(1L);
+        then(memberRepository).should(never()).findByUsername(anyString());
         then(postRepository).should().save(any(Post.class));
-    }
-
-    @DisplayName("게시글 작성 시 회원이 존재하지 않으면 예외가 발생한다.")
-    @Test
-    void postWriteNotFoundMember() {
-        PostWriteRequest postWriteRequest = new PostWriteRequest("title", "content");
-
-        willThrow(new NotFoundMemberException()).given(memberRepository).findByUsername(anyString());
-
-        assertThatThrownBy(() -> postService.postWrite(postWriteRequest, "yoon1234"))
-                .isInstanceOf(NotFoundMemberException.class);
-
-        then(memberRepository).should().findByUsername(anyString());
-        then(postRepository).should(never()).save(any(Post.class));
+        then(eventPublisher).should().publishEvent(any(PostWriteEvent.class));
     }
 
     @DisplayName("게시글을 상세조회 한다.")
@@ -111,19 +128,31 @@ class PostServiceTest {
                 .member(member)
                 .build();
 
+        given(postDetailCache.get(anyLong(), any())).willAnswer(invocation -> {
+            Supplier<PostDetailResponse> loader = invocation.getArgument(1);
+            return loader.get();
+        });
         given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
+        given(postViewService.increase(anyLong())).willReturn(3L);
 
         PostDetailResponse postDetailResponse = postService.postDetail(1L);
 
         assertThat(postDetailResponse.getTitle()).isEqualTo("title");
         assertThat(postDetailResponse.getWriter()).isEqualTo("yoonkun");
         assertThat(postDetailResponse.getContent()).isEqualTo("content");
+        assertThat(postDetailResponse.getViewCount()).isEqualTo(3);
         then(postRepository).should().findById(anyLong());
+        then(postViewService).should().increase(anyLong());
+        then(eventPublisher).should().publishEvent(any(PostViewEvent.class));
     }
 
     @DisplayName("게시글 상세조회 시 게시글이 존재하지 않으면 예외가 발생한다.")
     @Test
     void postDetailNotFoundPost() {
+        given(postDetailCache.get(anyLong(), any())).willAnswer(invocation -> {
+            Supplier<PostDetailResponse> loader = invocation.getArgument(1);
+            return loader.get();
+        });
         willThrow(new NotFoundPostException()).given(postRepository).findById(anyLong());
 
         assertThatThrownBy(() -> postService.postDetail(1L))
@@ -136,13 +165,18 @@ class PostServiceTest {
     @Test
     void postList() {
         List<PostItem> content = List.of(
-                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5)
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 0)
         );
-        PageImpl<PostItem> postPage = new PageImpl<>(content);
 
-        given(postRepository.findAllPost(any(Pageable.class))).willReturn(postPage);
+        given(postListCache.get(anyInt(), anyLong(), any())).willAnswer(invocation -> {
+            Supplier<PostListResponse> loader = invocation.getArgument(2);
+            return loader.get();
+        });
+        given(postRepository.findAllPost(any(Pageable.class))).willReturn(content);
+        given(countService.postCount()).willReturn(1L);
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
-        PostListResponse postListResponse = postService.postList(1);
+        PostListResponse postListResponse = postService.postList(1, 3L);
 
         assertThat(postListResponse.getPosts()).isNotNull();
         assertThat(postListResponse.getPage()).isEqualTo(1);
@@ -152,18 +186,58 @@ class PostServiceTest {
         assertThat(postListResponse.isLast()).isTrue();
         assertThat(postListResponse.isPrev()).isFalse();
         assertThat(postListResponse.isNext()).isFalse();
+        then(postListCache).should().get(eq(0), eq(3L), any());
         then(postRepository).should().findAllPost(any(Pageable.class));
+        then(countService).should().postCount();
+    }
+
+    @DisplayName("커서 기반으로 게시글 목록을 조회한다.")
+    @Test
+    void postListCursor() {
+        List<PostItem> content = List.of(
+                new PostItem(20L, "title", "writer", LocalDateTime.now(), 5, 0)
+        );
+        SliceImpl<PostItem> postSlice = new SliceImpl<>(content, Pageable.ofSize(10), true);
+
+        given(postRepository.findAllPostBefore(anyLong(), any(Pageable.class))).willReturn(postSlice);
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PostCursorResponse postCursorResponse = postService.postListCursor(21L);
+
+        assertThat(postCursorResponse.getPosts()).hasSize(1);
+        assertThat(postCursorResponse.getNextCursor()).isEqualTo(20L);
+        assertThat(postCursorResponse.isNext()).isTrue();
+        then(postRepository).should().findAllPostBefore(anyLong(), any(Pageable.class));
+    }
+
+    @DisplayName("커서 없이 조회하면 최신 게시글부터 조회한다.")
+    @Test
+    void postListCursorWithoutCursor() {
+        List<PostItem> content = List.of(
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 0)
+        );
+        SliceImpl<PostItem> postSlice = new SliceImpl<>(content, Pageable.ofSize(10), false);
+
+        given(postRepository.findAllPostBefore(anyLong(), any(Pageable.class))).willReturn(postSlice);
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PostCursorResponse postCursorResponse = postService.postListCursor(null);
+
+        assertThat(postCursorResponse.getNextCursor()).isNull();
+        assertThat(postCursorResponse.isNext()).isFalse();
+        then(postRepository).should().findAllPostBefore(eq(Long.MAX_VALUE), any(Pageable.class));
     }
 
     @DisplayName("게시글을 검색한다.")
     @Test
     void postListSearch() {
         List<PostItem> content = List.of(
-                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5)
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 0)
         );
         PageImpl<PostItem> postPage = new PageImpl<>(content);
 
         given(postRepository.findAllPostByTitle(anyString(), any(Pageable.class))).willReturn(postPage);
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
         PostListResponse postListResponse = postService.postListSearch("title", "ti", 1);
 
@@ -178,42 +252,62 @@ class PostServiceTest {
         then(postRepository).should().findAllPostByTitle(anyString(), any(Pageable.class));
     }
 
+    @DisplayName("검색 색인이 준비되어 있으면 색인으로 게시글 목록을 검색한다.")
+    @Test
+    void postListSearchIndex() {
+        List<PostItem> content = List.of(
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 5, 0)
+        );
+        PageImpl<Long> postIdPage = new PageImpl<>(List.of(1L));
+
+        given(postSearchIndex.isReady()).willReturn(true);
+        given(postSearchIndex.search(eq(PostSearchType.ALL), anyString(), any(Pageable.class))).willReturn(postIdPage);
+        given(postRepository.findAllPostByIdIn(List.of(1L))).willReturn(content);
+        given(postViewService.mergeViewCount(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        PostListResponse postListResponse = postService.postListSearch("all", "ti", 1);
+
+        assertThat(postListResponse.getPosts()).hasSize(1);
+        assertThat(postListResponse.getTotalPosts()).isEqualTo(1);
+        then(postRepository).should(never()).findAllPostByKeyword(anyString(), any(Pageable.class));
+    }
+
+    @DisplayName("검색 유형이 올바르지 않으면 빈 게시글 목록을 응답한다.")
+    @Test
+    void postListSearchUnknownType() {
+        PostListResponse postListResponse = postService.postListSearch("unknown", "ti", 1);
+
+        assertThat(postListResponse.getPosts()).isEmpty();
+        then(postSearchIndex).should(never()).search(any(PostSearchType.class), anyString(), any(Pageable.class));
+    }
+
     @DisplayName("게시글을 수정한다.")
     @Test
     void postModify() {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
-        Post post = Post.builder()
-                .title("title")
-                .writer(member.getNickname())
-                .content("content")
-                .member(member)
-                .build();
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
+        given(postRepository.modifyByIdAndUsername(eq(1L), eq("yoon1234"), eq("title"), eq("content"), any(LocalDateTime.class))).willReturn(1);
 
         postService.postModify(1L, "yoon1234", postModifyRequest);
 
-        then(postRepository).should().findById(anyLong());
+        then(postRepository).should(never()).findById(anyLong());
+        then(postRepository).should(never()).existsById(anyLong());
+        then(eventPublisher).should().publishEvent(any(PostModifyEvent.class));
     }
 
     @DisplayName("게시글 수정 시 작성자가 아닌데 수정을 시도할 경우 예외가 발생한다.")
     @Test
     void postModifyAccessDenied() {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
-        Post post = Post.builder()
-                .title("title")
-                .writer(member.getNickname())
-                .content("content")
-                .member(member)
-                .build();
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
+        given(postRepository.modifyByIdAndUsername(anyLong(), anyString(), anyString(), anyString(), any(LocalDateTime.class))).willReturn(0);
+        given(postRepository.existsById(1L)).willReturn(true);
 
         String notPostOwner = "yoonyoon";
         assertThatThrownBy(() -> postService.postModify(1L, notPostOwner, postModifyRequest))
                 .isInstanceOf(AccessDeniedModifyPostException.class);
 
-        then(postRepository).should().findById(anyLong());
+        then(eventPublisher).should(never()).publishEvent(any(PostModifyEvent.class));
     }
 
     @DisplayName("게시글 수정 시 게시글이 존재하지 않으면 예외가 발생한다.")
@@ -221,66 +315,51 @@ class PostServiceTest {
     void postModifyNotFoundPost() {
         PostModifyRequest postModifyRequest = new PostModifyRequest("title", "content");
 
-        willThrow(new NotFoundPostException()).given(postRepository).findById(anyLong());
+        given(postRepository.modifyByIdAndUsername(anyLong(), anyString(), anyString(), anyString(), any(LocalDateTime.class))).willReturn(0);
+        given(postRepository.existsById(1L)).willReturn(false);
 
         assertThatThrownBy(() -> postService.postModify(1L, "yoon1234", postModifyRequest))
                 .isInstanceOf(NotFoundPostException.class);
 
-        then(postRepository).should().findById(anyLong());
+        then(eventPublisher).should(never()).publishEvent(any(PostModifyEvent.class));
     }
 
-    @DisplayName("게시글을 삭제한다.")
+    @DisplayName("게시글을 삭제 상태로 변경한다.")
     @Test
     void postDelete() {
-        Post post = Post.builder()
-                .title("title")
-                .writer(member.getNickname())
-                .content("content")
-                .member(member)
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        willDoNothing().given(commentRepository).deleteByPostId(anyLong());
-        willDoNothing().given(postRepository).delete(any(Post.class));
+        given(postRepository.softDeleteByIdAndUsername(eq(1L), eq("yoon1234"), any(LocalDateTime.class))).willReturn(1);
 
         postService.postDelete(1L, "yoon1234");
 
-        then(postRepository).should().findById(anyLong());
-        then(commentRepository).should().deleteByPostId(anyLong());
-        then(postRepository).should().delete(any(Post.class));
+        then(postRepository).should(never()).findById(anyLong());
+        then(postRepository).should(never()).existsById(anyLong());
+        then(eventPublisher).should().publishEvent(any(PostDeleteEvent.class));
     }
 
     @DisplayName("게시글 삭제 시 작성자가 아닌데 삭제를 시도할 경우 예외가 발생한다.")
     @Test
     void postDeleteAccessDenied() {
-        Post post = Post.builder()
-                .title("title")
-                .writer(member.getNickname())
-                .content("content")
-                .member(member)
-                .build();
+        String notPostOwner = "yoonyoon";
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
+        given(postRepository.softDeleteByIdAndUsername(eq(1L), eq(notPostOwner), any(LocalDateTime.class))).willReturn(0);
+        given(postRepository.existsById(1L)).willReturn(true);
 
-        String notPostOwner = "yoonyoon";
         assertThatThrownBy(() -> postService.postDelete(1L, notPostOwner))
                 .isInstanceOf(AccessDeniedDeletePostException.class);
 
-        then(postRepository).should().findById(anyLong());
-        then(commentRepository).should(never()).deleteByPostId(anyLong());
-        then(postRepository).should(never()).delete(any(Post.class));
+        then(eventPublisher).should(never()).publishEvent(any(PostDeleteEvent.class));
     }
 
     @DisplayName("게시글 삭제 시 게시글이 존재하지 않으면 예외가 발생한다.")
     @Test
     void postDeleteNotFoundPost() {
-        willThrow(new NotFoundPostException()).given(postRepository).findById(anyLong());
+        given(postRepository.softDeleteByIdAndUsername(eq(1L), eq("yoon1234"), any(LocalDateTime.class))).willReturn(0);
+        given(postRepository.existsById(1L)).willReturn(false);
 
         assertThatThrownBy(() -> postService.postDelete(1L, "yoon1234"))
                 .isInstanceOf(NotFoundPostException.class);
 
-        then(postRepository).should().findById(anyLong());
-        then(postRepository).should(never()).delete(any(Post.class));
+        then(eventPublisher).should(never()).publishEvent(any(PostDeleteEvent.class));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.comment.event.CommentWriteEvent;
+import com.backend.domain.post.repository.PostVersionRepository;
+import com.backend.global.common.web.ResourceVersion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostVersionServiceTest {
+
+    @Mock
+    private PostVersionRepository postVersionRepository;
+
+    @InjectMocks
+    private PostVersionService postVersionService;
+
+    @DisplayName("게시글 상세 버전 키로 게시글 상세 버전을 만든다.")
+    @Test
+    void postDetailVersion() {
+        given(postVersionRepository.findDetailVersion(1L)).willReturn(200L);
+
+        Optional<ResourceVersion> version = postVersionService.postDetailVersion(1L);
+
+        assertThat(version).isNotEmpty();
+        assertThat(version.get().getEtag()).isEqualTo("W/\"post-1-200\"");
+        assertThat(version.get().getLastModified()).isEqualTo(200L);
+    }
+
+    @DisplayName("조건부 요청 검사 시 발급된 상세 버전이 없으면 버전을 만들지 않는다.")
+    @Test
+    void findPostDetailVersionAbsent() {
+        given(postVersionRepository.findDetailVersionIfPresent(1L)).willReturn(Optional.empty());
+
+        Optional<ResourceVersion> version = postVersionService.findPostDetailVersion(1L);
+
+        assertThat(version).isEmpty();
+        then(postVersionRepository).should(never()).findDetailVersion(1L);
+    }
+
+    @DisplayName("Redis 장애 시 게시글 목록 버전을 응답하지 않는다.")
+    @Test
+    void findListVersionRedisFailure() {
+        willThrow(new QueryTimeoutException("timeout")).given(postVersionRepository).findListVersion();
+
+        Optional<Long> version = postVersionService.findListVersion();
+
+        assertThat(version).isEmpty();
+    }
+
+    @DisplayName("댓글이 작성되면 게시글 목록과 댓글 목록 버전을 갱신한다.")
+    @Test
+    void handleCommentWrite() {
+        postVersionService.handleCommentWrite(new CommentWriteEvent(1L));
+
+        then(postVersionRepository).should().bumpListVersion();
+        then(postVersionRepository).should().bumpCommentVersion(1L);
+        then(postVersionRepository).should().bumpDetailVersion(1L);
+    }
+
+}
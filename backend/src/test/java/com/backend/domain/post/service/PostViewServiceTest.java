@@ -0,0 +1,155 @@
+package com.backend.domain.post.service;
+
+import com.backend.domain.post.cache.PostDetailCache;
+import com.backend.domain.post.dto.PostItem;
+import com.backend.domain.post.repository.PostRepository;
+import com.backend.domain.post.repository.PostViewFlushRepository;
+import com.backend.domain.post.repository.PostViewRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostViewRepository postViewRepository;
+
+    @Mock
+    private PostViewFlushRepository postViewFlushRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostVersionService postVersionService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private PostViewProperties properties = new PostViewProperties(2, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private PostViewService postViewService;
+
+    @DisplayName("조회수를 증가시키고 아직 반영되지 않은 조회수를 응답한다.")
+    @Test
+    void increase() {
+        given(postViewRepository.increase(1L)).willReturn(3L);
+
+        long pendingViewCount = postViewService.increase(1L);
+
+        assertThat(pendingViewCount).isEqualTo(3);
+    }
+
+    @DisplayName("Redis 장애 시 조회수 증가를 건너뛴다.")
+    @Test
+    void increaseRedisFailure() {
+        given(postViewRepository.increase(anyLong())).willThrow(new QueryTimeoutException("timeout"));
+
+        long pendingViewCount = postViewService.increase(1L);
+
+        assertThat(pendingViewCount).isEqualTo(0);
+    }
+
+    @DisplayName("게시글 목록에 아직 반영되지 않은 조회수를 더한다.")
+    @Test
+    void mergeViewCount() {
+        List<PostItem> posts = List.of(
+                new PostItem(2L, "title", "writer", LocalDateTime.now(), 0, 10),
+                new PostItem(1L, "title", "writer", LocalDateTime.now(), 0, 20)
+        );
+
+        given(postViewRepository.findPendingViewCounts(anyList())).willReturn(Map.of(2L, 1L, 1L, 0L));
+
+        List<PostItem> mergedPosts = postViewService.mergeViewCount(posts);
+
+        assertThat(mergedPosts).extracting(PostItem::getViewCount).containsExactly(11L, 20L);
+    }
+
+    @DisplayName("누적된 조회수를 배치 단위로 DB에 반영하고 캐시를 무효화한다.")
+    @Test
+    void flush() {
+        given(postViewRepository.lockFlush(any(Duration.class))).willReturn(Optional.of("token"));
+        given(postViewRepository.prepareFlush()).willReturn(Optional.of("generation"));
+        given(postViewRepository.findFlushingViewCounts()).willReturn(Map.of(1L, 3L, 2L, 1L, 3L, 5L));
+        willAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        postViewService.flush();
+
+        then(postViewFlushRepository).should().insert("generation:1", "generation");
+        then(postViewFlushRepository).should().insert("generation:3", "generation");
+        then(postRepository).should(times(3)).increaseViewCount(anyLong(), anyLong());
+        then(postViewRepository).should(times(2)).completeFlush(anyList());
+        then(postDetailCache).should(times(3)).evict(anyLong());
+        then(postVersionService).should(times(2)).bumpListVersion();
+        then(postViewFlushRepository).should().deleteAllByGeneration("generation");
+        then(postViewRepository).should().unlockFlush("token");
+    }
+
+    @DisplayName("이미 DB에 반영된 배치는 다시 반영하지 않고 Redis에서만 정리한다.")
+    @Test
+    void flushAppliedBatch() {
+        given(postViewRepository.lockFlush(any(Duration.class))).willReturn(Optional.of("token"));
+        given(postViewRepository.prepareFlush()).willReturn(Optional.of("generation"));
+        given(postViewRepository.findFlushingViewCounts()).willReturn(Map.of(1L, 3L));
+        given(postViewFlushRepository.existsById("generation:1")).willReturn(true);
+        willAnswer(invocation -> {
+            Consumer<Object> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        postViewService.flush();
+
+        then(postRepository).should(never()).increaseViewCount(anyLong(), anyLong());
+        then(postViewRepository).should().completeFlush(List.of(1L));
+    }
+
+    @DisplayName("다른 서버가 반영 중이면 조회수 반영을 건너뛴다.")
+    @Test
+    void flushLocked() {
+        given(postViewRepository.lockFlush(any(Duration.class))).willReturn(Optional.empty());
+
+        postViewService.flush();
+
+        then(postViewRepository).should(never()).prepareFlush();
+        then(postViewRepository).should(never()).unlockFlush(anyString());
+    }
+
+}
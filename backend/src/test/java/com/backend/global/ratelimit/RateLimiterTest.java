@@ -0,0 +1,79 @@
+package com.backend.global.ratelimit;
+
+import com.backend.global.security.filter.RequestPath;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(Duration.ofSeconds(1), Duration.ofMinutes(1), 100,
+                Map.of(RequestPath.POST_WRITE, new RateLimitProperties.Limit(2, Duration.ofMinutes(1))));
+        rateLimiter = new RateLimiter(stringRedisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("Redis 토큰 버킷 스크립트의 대기 시간을 응답한다.")
+    @Test
+    void tryAcquire() {
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("rate:post_write:ip:127.0.0.1")), eq("2"), eq("60000")))
+                .willReturn(0L, 30000L);
+
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_WRITE, "ip:127.0.0.1")).isEqualTo(0);
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_WRITE, "ip:127.0.0.1")).isEqualTo(30000);
+    }
+
+    @DisplayName("제한이 설정되지 않은 경로는 Redis를 호출하지 않는다.")
+    @Test
+    void tryAcquireUnlimited() {
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_LIST, "ip:127.0.0.1")).isEqualTo(0);
+
+        then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+    @DisplayName("Redis 장애 시 로컬 버킷으로 제한하고 일정 시간 동안 Redis를 호출하지 않는다.")
+    @Test
+    void tryAcquireRedisFailure() {
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_WRITE, "ip:127.0.0.1")).isEqualTo(0);
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_WRITE, "ip:127.0.0.1")).isEqualTo(0);
+        assertThat(rateLimiter.tryAcquire(RequestPath.POST_WRITE, "ip:127.0.0.1")).isPositive();
+
+        then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+}
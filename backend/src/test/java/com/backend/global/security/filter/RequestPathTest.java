@@ -0,0 +1,46 @@
+package com.backend.global.security.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestPathTest {
+
+    @DisplayName("요청 메서드와 경로에 맞는 경로를 찾고 고정 경로를 와일드카드보다 우선한다.")
+    @Test
+    void match() {
+        assertThat(RequestPath.match(request("GET", "/api/posts"))).contains(RequestPath.POST_LIST);
+        assertThat(RequestPath.match(request("GET", "/api/posts/search"))).contains(RequestPath.POST_LIST_SEARCH);
+        assertThat(RequestPath.match(request("GET", "/api/posts/1"))).contains(RequestPath.POST_DETAIL);
+        assertThat(RequestPath.match(request("GET", "/api/posts/1/comments"))).contains(RequestPath.COMMENT_LIST);
+        assertThat(RequestPath.match(request("PUT", "/api/posts/1/comments/2"))).contains(RequestPath.COMMENT_MODIFY);
+        assertThat(RequestPath.match(request("POST", "/api/posts/1/comments/write"))).contains(RequestPath.COMMENT_WRITE);
+    }
+
+    @DisplayName("메서드나 경로가 일치하지 않으면 경로를 찾지 않는다.")
+    @Test
+    void matchNotFound() {
+        assertThat(RequestPath.match(request("PATCH", "/api/posts/1"))).isEmpty();
+        assertThat(RequestPath.match(request("GET", "/api/posts/1/comments/2"))).isEmpty();
+        assertThat(RequestPath.match(request("GET", "/api/unknown"))).isEmpty();
+    }
+
+    @DisplayName("전부 허용 경로만 인증 필터를 건너뛴다.")
+    @Test
+    void isShouldNotFilter() {
+        assertThat(RequestPath.isShouldNotFilter(request("GET", "/api/posts/1"))).isTrue();
+        assertThat(RequestPath.isShouldNotFilter(request("POST", "/api/auth/login"))).isTrue();
+        assertThat(RequestPath.isShouldNotFilter(request("DELETE", "/api/posts/1"))).isFalse();
+        assertThat(RequestPath.isShouldNotFilter(request("GET", "/api/unknown"))).isFalse();
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+}
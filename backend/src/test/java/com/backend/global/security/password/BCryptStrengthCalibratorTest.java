@@ -0,0 +1,20 @@
+package com.backend.global.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptStrengthCalibratorTest {
+
+    @DisplayName("목표 지연 시간 안에 들어오는 가장 높은 비용을 선택한다.")
+    @Test
+    void calibrate() {
+        long sampleNanos = 4_000_000L;
+
+        assertThat(BCryptStrengthCalibrator.select(sampleNanos, 50_000_000L, 4, 14)).isEqualTo(11);
+        assertThat(BCryptStrengthCalibrator.select(sampleNanos, 1_000_000L, 10, 14)).isEqualTo(10);
+        assertThat(BCryptStrengthCalibrator.select(sampleNanos, 10_000_000_000L, 4, 14)).isEqualTo(14);
+    }
+
+}
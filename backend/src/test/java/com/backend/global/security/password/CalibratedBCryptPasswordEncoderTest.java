@@ -0,0 +1,31 @@
+package com.backend.global.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @DisplayName("저장된 해시의 비용이 설정된 비용보다 낮을 때만 다시 해시해야 한다.")
+    @Test
+    void upgradeEncoding() {
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("12345678"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("12345678"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("12345678"))).isFalse();
+    }
+
+    @DisplayName("저장된 해시의 버전이나 알고리즘이 다르면 다시 해시해야 한다.")
+    @Test
+    void upgradeEncodingVersion() {
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, 6).encode("12345678"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding("plain-text")).isTrue();
+    }
+
+}
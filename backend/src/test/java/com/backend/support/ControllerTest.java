@@ -1,6 +1,7 @@
 package com.backend.support;
 
 import com.backend.domain.auth.service.TokenService;
+import com.backend.global.ratelimit.RateLimiter;
 import com.backend.support.restdocs.RestDocsConfig;
 import com.backend.global.security.config.SecurityConfig;
 
@@ -44,6 +45,9 @@ public abstract class ControllerTest {
     @MockitoBean
     protected TokenService tokenService;
 
+    @MockitoBean
+    protected RateLimiter rateLimiter;
+
     protected MockMvc mockMvc;
 
     @BeforeEach